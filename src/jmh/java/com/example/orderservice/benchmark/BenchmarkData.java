@@ -0,0 +1,57 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.auth.Role;
+import com.example.orderservice.domain.auth.User;
+import com.example.orderservice.presentation.dto.order.OrderRequestDto;
+import com.example.orderservice.presentation.dto.product.ProductRequestDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final String JWT_SECRET = "verysecureandlongsecretkeyforjwtorderserviceapp";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an order request with the given number of products.
+     *
+     * @param productCount the number of products in the order
+     * @return the order request
+     */
+    static OrderRequestDto orderRequest(int productCount) {
+        List<ProductRequestDto> products = new ArrayList<>(productCount);
+        long total = 0;
+        for (int i = 0; i < productCount; i++) {
+            long price = 1_099 + (i % 90) * 100L;
+            int quantity = 1 + (i % 5);
+            products.add(new ProductRequestDto(null, "Product " + i, price, quantity));
+            total += price * quantity;
+        }
+        return new OrderRequestDto("user1@example.com", "PENDING", total, products);
+    }
+
+    /**
+     * Creates a persisted-looking user with the given roles.
+     *
+     * @param roleNames the names of the user's roles
+     * @return the user
+     */
+    static User user(String... roleNames) {
+        List<Role> roles = new ArrayList<>(roleNames.length);
+        for (String roleName : roleNames) {
+            Role role = new Role();
+            role.setName(roleName);
+            roles.add(role);
+        }
+        User user = new User("Alice", "Brown", "user1@example.com",
+                "$2a$10$pnT8zRkgQKhqK46FyqIEa.Wnq8m6di2Nf/L14AVs2KG6sHraodwZO", roles);
+        user.setId(3L);
+        return user;
+    }
+}
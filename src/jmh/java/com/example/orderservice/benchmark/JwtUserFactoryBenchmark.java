@@ -0,0 +1,53 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.auth.User;
+import com.example.orderservice.infrastructure.config.security.JwtUser;
+import com.example.orderservice.infrastructure.config.security.JwtUserFactory;
+import com.example.orderservice.infrastructure.config.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the request principal from a loaded user and from verified token claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUserFactoryBenchmark {
+
+    private JwtUserFactory factory;
+    private User user;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        factory = new JwtUserFactory();
+        user = BenchmarkData.user("Admin", "User");
+        JwtUtil jwtUtil = new JwtUtil(BenchmarkData.JWT_SECRET, 3600L, 0L);
+        claims = jwtUtil.verifyAndParse(jwtUtil.generateToken(user)).orElseThrow();
+    }
+
+    @Benchmark
+    public JwtUser createFromUser() {
+        return factory.create(user);
+    }
+
+    @Benchmark
+    public JwtUser createFromClaims() {
+        return factory.create(claims);
+    }
+}
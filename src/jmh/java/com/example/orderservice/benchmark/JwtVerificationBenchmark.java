@@ -0,0 +1,71 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.infrastructure.config.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU cost of authenticating one request from its bearer token.
+ * <p>
+ * {@code legacy} reproduces the former filter path, which derived the key and built a parser twice per
+ * request ({@code extractUsername} followed by {@code validateToken}); the other benchmarks use
+ * {@link JwtUtil#verifyAndParse(String)} without and with the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(BenchmarkData.JWT_SECRET, 3600L, 0L);
+        cached = new JwtUtil(BenchmarkData.JWT_SECRET, 3600L, 10_000L);
+        token = uncached.generateToken(BenchmarkData.user("User"));
+        cached.verifyAndParse(token);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String username = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(BenchmarkData.JWT_SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(BenchmarkData.JWT_SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token);
+        return username != null;
+    }
+
+    @Benchmark
+    public Claims verifyAndParse() {
+        return uncached.verifyAndParse(token).orElseThrow();
+    }
+
+    @Benchmark
+    public Claims verifyAndParseCached() {
+        return cached.verifyAndParse(token).orElseThrow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the CPU cost of writing an order listing as plain JSON and as gzip at the levels the
+ * response compression filter can be configured with. The wire sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCompressionBenchmark {
+
+    @Param({"10", "100"})
+    private int orderCount;
+
+    @Param({"10", "100"})
+    private int productsPerOrder;
+
+    @Param({"1", "6"})
+    private int level;
+
+    private ObjectWriter writer;
+    private List<OrderResponseDto> orders;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, OrderResponseDto.class));
+        OrderMapper mapper = new OrderMapperImpl();
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = mapper.toEntity(BenchmarkData.orderRequest(productsPerOrder));
+            order.setId((long) i);
+            orders.add(mapper.toDto(order));
+        }
+
+        int identity = serializeIdentity().length;
+        int gzip = serializeGzip().length;
+        System.out.printf("%nwire bytes: identity=%d gzip(level %d)=%d ratio=%.1fx%n",
+                identity, level, gzip, (double) identity / gzip);
+    }
+
+    @Benchmark
+    public byte[] serializeIdentity() throws IOException {
+        return writer.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            writer.writeValue(gzip, orders);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.orderservice.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code (column = ? OR ? IS NULL)} filter query of the customer order listing with the
+ * dynamically built query that only contains the supplied filters, for all 8 combinations of the status,
+ * minimum price and maximum price filters.
+ * <p>
+ * Needs a PostgreSQL database, configured with {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user} and
+ * {@code -Dbenchmark.jdbc.password} (defaults match {@code application.yml}). The benchmark seeds its own schema
+ * with the same table and index as the application, and prints the planner's estimated cost of each query once
+ * per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderFilterQueryBenchmark {
+
+    private static final String SCHEMA = "order_filter_benchmark";
+    private static final int ORDER_COUNT = 200_000;
+    private static final int CUSTOMER_COUNT = 1_000;
+    private static final String CUSTOMER = "user1@example.com";
+    private static final int PAGE_SIZE = 51;
+
+    /**
+     * Which filters are supplied, one flag each for status, minimum price and maximum price.
+     */
+    @Param({"000", "001", "010", "011", "100", "101", "110", "111"})
+    private String filters;
+
+    @Param({"nullable", "dynamic"})
+    private String shape;
+
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/postgres"),
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+        seed();
+
+        String status = filters.charAt(0) == '1' ? "PENDING" : null;
+        Long minPrice = filters.charAt(1) == '1' ? 10_000L : null;
+        Long maxPrice = filters.charAt(2) == '1' ? 50_000L : null;
+        statement = "nullable".equals(shape)
+                ? nullableQuery(status, minPrice, maxPrice)
+                : dynamicQuery(status, minPrice, maxPrice);
+        printPlanCost();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int findOrderIds() throws SQLException {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private PreparedStatement nullableQuery(String status, Long minPrice, Long maxPrice) throws SQLException {
+        PreparedStatement query = connection.prepareStatement("SELECT o.id FROM " + SCHEMA + ".orders o WHERE " +
+                "o.customer_name = ? AND " +
+                "(o.status = ? OR ? IS NULL) AND " +
+                "(o.total_price >= ? OR ? IS NULL) AND " +
+                "(o.total_price <= ? OR ? IS NULL) AND " +
+                "o.is_deleted = false AND o.id > ? ORDER BY o.id LIMIT ?");
+        query.setString(1, CUSTOMER);
+        query.setObject(2, status, Types.VARCHAR);
+        query.setObject(3, status, Types.VARCHAR);
+        query.setObject(4, minPrice, Types.BIGINT);
+        query.setObject(5, minPrice, Types.BIGINT);
+        query.setObject(6, maxPrice, Types.BIGINT);
+        query.setObject(7, maxPrice, Types.BIGINT);
+        query.setLong(8, 0L);
+        query.setInt(9, PAGE_SIZE);
+        return query;
+    }
+
+    private PreparedStatement dynamicQuery(String status, Long minPrice, Long maxPrice) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT o.id FROM " + SCHEMA + ".orders o " +
+                "WHERE o.is_deleted = false AND o.customer_name = ?");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(CUSTOMER);
+        if (status != null) {
+            sql.append(" AND o.status = ?");
+            parameters.add(status);
+        }
+        if (minPrice != null) {
+            sql.append(" AND o.total_price >= ?");
+            parameters.add(minPrice);
+        }
+        if (maxPrice != null) {
+            sql.append(" AND o.total_price <= ?");
+            parameters.add(maxPrice);
+        }
+        sql.append(" ORDER BY o.id LIMIT ?");
+        parameters.add(PAGE_SIZE);
+
+        PreparedStatement query = connection.prepareStatement(sql.toString());
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setObject(i + 1, parameters.get(i));
+        }
+        return query;
+    }
+
+    /**
+     * Creates and fills the benchmark table once; later trials reuse it.
+     */
+    private void seed() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+            ddl.execute("CREATE TABLE IF NOT EXISTS " + SCHEMA + ".orders (" +
+                    "id BIGINT PRIMARY KEY, customer_name VARCHAR(255) NOT NULL, status VARCHAR(50) NOT NULL, " +
+                    "total_price BIGINT NOT NULL, is_deleted BOOLEAN NOT NULL DEFAULT false)");
+            ddl.execute("CREATE INDEX IF NOT EXISTS idx_orders_customer_status_price ON " + SCHEMA + ".orders " +
+                    "(customer_name, status, total_price) WHERE is_deleted = false");
+            try (ResultSet count = ddl.executeQuery("SELECT count(*) FROM " + SCHEMA + ".orders")) {
+                count.next();
+                if (count.getLong(1) > 0) {
+                    return;
+                }
+            }
+            ddl.execute("INSERT INTO " + SCHEMA + ".orders " +
+                    "SELECT i, 'user' || (i % " + CUSTOMER_COUNT + ") || '@example.com', " +
+                    "(ARRAY['PENDING', 'CONFIRMED', 'CANCELLED'])[1 + i % 3], (i * 7) % 1000 * 100, i % 10 = 0 " +
+                    "FROM generate_series(1, " + ORDER_COUNT + ") AS i");
+            ddl.execute("ANALYZE " + SCHEMA + ".orders");
+        }
+    }
+
+    private void printPlanCost() throws SQLException {
+        // PgPreparedStatement#toString renders the statement with its bound parameters inlined
+        try (Statement explain = connection.createStatement();
+             ResultSet plan = explain.executeQuery("EXPLAIN " + statement)) {
+            plan.next();
+            System.out.printf("%n[%s, filters=%s] %s%n", shape, filters, plan.getString(1));
+        }
+    }
+}
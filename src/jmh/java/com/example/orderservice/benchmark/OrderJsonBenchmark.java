@@ -0,0 +1,65 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of order listings, configured like the Spring MVC message converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderJsonBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int orderCount;
+
+    @Param({"1", "10", "100"})
+    private int productsPerOrder;
+
+    private ObjectWriter writer;
+    private List<OrderResponseDto> orders;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, OrderResponseDto.class));
+        OrderMapper mapper = new OrderMapperImpl();
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = mapper.toEntity(BenchmarkData.orderRequest(productsPerOrder));
+            order.setId((long) i);
+            orders.add(mapper.toDto(order));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(orders);
+    }
+}
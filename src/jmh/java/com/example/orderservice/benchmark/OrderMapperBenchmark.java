@@ -0,0 +1,57 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.presentation.dto.order.OrderRequestDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OrderMapper} conversions for orders of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int productCount;
+
+    private OrderMapper mapper;
+    private OrderRequestDto request;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMapperImpl();
+        request = BenchmarkData.orderRequest(productCount);
+        order = mapper.toEntity(request);
+        order.setId(1L);
+    }
+
+    @Benchmark
+    public Order toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public OrderResponseDto toDto() {
+        return mapper.toDto(order);
+    }
+}
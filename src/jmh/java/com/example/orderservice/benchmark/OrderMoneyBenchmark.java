@@ -0,0 +1,115 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares prices held as {@code long} minor units with the former {@code Double} entity prices that were
+ * converted to {@link BigDecimal} for every response.
+ * <p>
+ * {@code map*} maps a listing of orders to DTOs, the legacy variant adding the {@code Double} to {@link BigDecimal}
+ * conversion of each total. {@code filter*} applies a price range and sums the totals of the matching orders, as
+ * an in-memory stand-in for the range predicates and aggregations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMoneyBenchmark {
+
+    private static final long MIN_PRICE = 10_000;
+    private static final long MAX_PRICE = 50_000;
+
+    @Param({"100", "1000"})
+    private int orderCount;
+
+    @Param({"1", "10"})
+    private int productsPerOrder;
+
+    private OrderMapper mapper;
+    private List<Order> orders;
+    private long[] totals;
+    private Double[] legacyTotals;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMapperImpl();
+        orders = new ArrayList<>(orderCount);
+        totals = new long[orderCount];
+        legacyTotals = new Double[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            Order order = mapper.toEntity(BenchmarkData.orderRequest(productsPerOrder));
+            order.setId((long) i);
+            order.setTotalPrice(order.getTotalPrice() * (i % 10 + 1) / 10);
+            orders.add(order);
+            totals[i] = order.getTotalPrice();
+            legacyTotals[i] = order.getTotalPrice() / 100.0;
+        }
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> mapMinorUnits() {
+        List<OrderResponseDto> dtos = new ArrayList<>(orderCount);
+        for (Order order : orders) {
+            dtos.add(mapper.toDto(order));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> mapLegacyPrices(Blackhole blackhole) {
+        List<OrderResponseDto> dtos = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            dtos.add(mapper.toDto(orders.get(i)));
+            // The conversion the generated mapper made for every order while entities held Double prices
+            blackhole.consume(BigDecimal.valueOf(legacyTotals[i]));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public long filterMinorUnits() {
+        long sum = 0;
+        for (long total : totals) {
+            if (total >= MIN_PRICE && total <= MAX_PRICE) {
+                sum += total;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BigDecimal filterLegacyPrices() {
+        BigDecimal min = BigDecimal.valueOf(MIN_PRICE, 2);
+        BigDecimal max = BigDecimal.valueOf(MAX_PRICE, 2);
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Double total : legacyTotals) {
+            BigDecimal price = BigDecimal.valueOf(total);
+            if (price.compareTo(min) >= 0 && price.compareTo(max) <= 0) {
+                sum = sum.add(price);
+            }
+        }
+        return sum;
+    }
+}
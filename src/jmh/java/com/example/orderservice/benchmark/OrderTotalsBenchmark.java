@@ -0,0 +1,99 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.product.Product;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the totals persisted with each order against adding them up from its products on every read.
+ * <p>
+ * {@code *Totals} visit a listing of orders, the recomputing variant summing {@code price * quantity}, the
+ * quantities and the product lines of every order. {@code list*} map and write a listing as JSON with and
+ * without its products, the cost {@code includeProducts=false} saves on top of not reading them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTotalsBenchmark {
+
+    @Param({"100", "1000"})
+    private int orderCount;
+
+    @Param({"1", "10", "50"})
+    private int productsPerOrder;
+
+    private OrderMapper mapper;
+    private ObjectWriter writer;
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMapperImpl();
+        writer = new ObjectMapper().writer();
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = mapper.toEntity(BenchmarkData.orderRequest(productsPerOrder));
+            order.setId((long) i);
+            order.setVersion(0L);
+            order.setItemCount(productsPerOrder);
+            order.setTotalQuantity(order.getProducts().stream().mapToLong(Product::getQuantity).sum());
+            long productId = (long) i * productsPerOrder;
+            for (Product product : order.getProducts()) {
+                product.setId(productId++);
+            }
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public void readPersistedTotals(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(order.getTotalPrice());
+            blackhole.consume(order.getItemCount());
+            blackhole.consume(order.getTotalQuantity());
+        }
+    }
+
+    @Benchmark
+    public void recomputeTotals(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(order.getProducts().stream()
+                    .mapToLong(product -> product.getPrice() * product.getQuantity())
+                    .sum());
+            blackhole.consume(order.getProducts().size());
+            blackhole.consume(order.getProducts().stream().mapToLong(Product::getQuantity).sum());
+        }
+    }
+
+    @Benchmark
+    public byte[] listWithProducts() throws Exception {
+        return writer.writeValueAsBytes(orders.stream().map(mapper::toDto).toList());
+    }
+
+    @Benchmark
+    public byte[] listWithoutProducts() throws Exception {
+        return writer.writeValueAsBytes(orders.stream().map(mapper::toDtoWithoutProducts).toList());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.orderservice.benchmark;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.presentation.dto.order.OrderRequestDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding of order listings and order requests as JSON and as CBOR, with mappers built
+ * like the Spring MVC message converters. The payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderWireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"10", "100"})
+    private int orderCount;
+
+    @Param({"1", "10", "100"})
+    private int productsPerOrder;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private ObjectWriter requestWriter;
+    private ObjectReader requestReader;
+    private List<OrderResponseDto> orders;
+    private OrderRequestDto request;
+    private byte[] encodedOrders;
+    private byte[] encodedRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        ObjectMapper objectMapper = builder.build();
+        var listType = objectMapper.getTypeFactory().constructCollectionType(List.class, OrderResponseDto.class);
+        listWriter = objectMapper.writerFor(listType);
+        listReader = objectMapper.readerFor(listType);
+        requestWriter = objectMapper.writerFor(OrderRequestDto.class);
+        requestReader = objectMapper.readerFor(OrderRequestDto.class);
+
+        OrderMapper mapper = new OrderMapperImpl();
+        request = BenchmarkData.orderRequest(productsPerOrder);
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = mapper.toEntity(request);
+            order.setId((long) i);
+            orders.add(mapper.toDto(order));
+        }
+        encodedOrders = listWriter.writeValueAsBytes(orders);
+        encodedRequest = requestWriter.writeValueAsBytes(request);
+        System.out.printf("%n%s bytes: orders=%d request=%d%n", format, encodedOrders.length, encodedRequest.length);
+    }
+
+    @Benchmark
+    public byte[] encodeOrders() throws IOException {
+        return listWriter.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> decodeOrders() throws IOException {
+        return listReader.readValue(encodedOrders);
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public OrderRequestDto decodeRequest() throws IOException {
+        return requestReader.readValue(encodedRequest);
+    }
+}
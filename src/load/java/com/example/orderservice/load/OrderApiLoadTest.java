@@ -0,0 +1,191 @@
+package com.example.orderservice.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator for a running order-service instance.
+ * <p>
+ * {@code load.concurrency} clients each send requests back to back for {@code load.duration}: mostly order
+ * listings, which block on JDBC, mixed with logins, which spend their time in BCrypt. Throughput, latency
+ * percentiles and error counts are printed per request type and written as JSON to {@code load.result}, so the
+ * platform-thread and the virtual-thread execution modes can be compared under the same load.
+ */
+public final class OrderApiLoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final URI baseUri = URI.create(System.getProperty("load.url", "http://localhost:8080"));
+    private final String email = System.getProperty("load.email", "admin1@example.com");
+    private final String password = System.getProperty("load.password", "");
+    private final int concurrency = Integer.getInteger("load.concurrency", 200);
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private final int loginEvery = Integer.getInteger("load.login-every", 20);
+    private final String resultFile = System.getProperty("load.result");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private OrderApiLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new OrderApiLoadTest().run();
+    }
+
+    private void run() throws Exception {
+        String token = login();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> work(token, deadline)));
+            }
+        }
+
+        Latencies listings = new Latencies();
+        Latencies logins = new Latencies();
+        for (Future<WorkerResult> future : futures) {
+            WorkerResult result = future.get();
+            listings.merge(result.listings());
+            logins.merge(result.logins());
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("concurrency", concurrency);
+        summary.put("durationSeconds", duration.toSeconds());
+        summary.put("listOrders", listings.summary(duration));
+        summary.put("login", logins.summary(duration));
+        System.out.println(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+        if (resultFile != null) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(resultFile), summary);
+        }
+    }
+
+    private WorkerResult work(String token, long deadline) {
+        WorkerResult result = new WorkerResult(new Latencies(), new Latencies());
+        HttpRequest listOrders = HttpRequest.newBuilder(baseUri.resolve("/orders?limit=20"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        for (long i = 0; System.nanoTime() < deadline; i++) {
+            if (loginEvery > 0 && i % loginEvery == loginEvery - 1) {
+                send(loginRequest(), result.logins());
+            } else {
+                send(listOrders, result.listings());
+            }
+        }
+        return result;
+    }
+
+    private void send(HttpRequest request, Latencies latencies) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (IOException e) {
+            latencies.record(System.nanoTime() - start, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(loginRequest(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode()
+                    + "; pass valid credentials with -Dload.email and -Dload.password");
+        }
+        JsonNode body = MAPPER.readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    private HttpRequest loginRequest() {
+        String body = MAPPER.createObjectNode()
+                .put("email", email)
+                .put("password", password)
+                .toString();
+        return HttpRequest.newBuilder(baseUri.resolve("/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * The latencies recorded by one worker, per request type.
+     */
+    private record WorkerResult(Latencies listings, Latencies logins) {
+    }
+
+    /**
+     * Latencies and error count of the requests of one type, recorded by a single worker or merged.
+     */
+    private static final class Latencies {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(Latencies other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+
+        Map<String, Object> summary(Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", count);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", count / (double) duration.toSeconds());
+            summary.put("p50Millis", percentile(sorted, 0.50));
+            summary.put("p95Millis", percentile(sorted, 0.95));
+            summary.put("p99Millis", percentile(sorted, 0.99));
+            summary.put("maxMillis", count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
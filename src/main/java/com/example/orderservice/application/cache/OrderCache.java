@@ -0,0 +1,44 @@
+package com.example.orderservice.application.cache;
+
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+
+import java.util.Optional;
+
+/**
+ * Cache of orders as returned by {@code GET /orders/{orderId}}, keyed by order ID.
+ * <p>
+ * The cache holds orders regardless of who may see them; callers must apply the ownership check to
+ * every cached order they return. Implementations decide where entries live (in-process or shared
+ * between instances) and how they are bounded, but must compare and write an entry in one atomic step,
+ * such as a compute on a local map or a compare-and-set on a shared store, so a put cannot interleave with an
+ * eviction of the same order.
+ */
+public interface OrderCache {
+
+    /**
+     * Looks up a cached order.
+     *
+     * @param orderId the ID of the order.
+     * @return the cached order, or an empty {@link Optional} if it is not cached.
+     */
+    Optional<OrderResponseDto> get(Long orderId);
+
+    /**
+     * Caches an order under its ID, replacing any previous entry of the same or an older version.
+     * <p>
+     * The order is not cached if a newer version of it is cached, or if it was evicted after a change to a newer
+     * version. A reader that loaded the order before a change committed therefore cannot put the old state back
+     * after the change evicted it.
+     *
+     * @param order the order to cache.
+     */
+    void put(OrderResponseDto order);
+
+    /**
+     * Removes an order from the cache after a change of it committed, so the next lookup reloads it.
+     *
+     * @param orderId the ID of the order.
+     * @param version the version the change committed; orders of older versions are no longer cached.
+     */
+    void evict(Long orderId, Long version);
+}
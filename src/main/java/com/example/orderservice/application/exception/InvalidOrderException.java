@@ -0,0 +1,22 @@
+package com.example.orderservice.application.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Thrown when an order assembled by the service, such as an order with a merge patch applied, fails validation.
+ */
+@Getter
+public class InvalidOrderException extends RuntimeException {
+
+    /**
+     * Validation messages keyed by the path of the invalid field.
+     */
+    private final Map<String, String> violations;
+
+    public InvalidOrderException(Map<String, String> violations) {
+        super("Invalid order: " + violations);
+        this.violations = violations;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.orderservice.application.exception;
+
+/**
+ * Thrown when a request carries a semantically invalid value, such as a malformed pagination cursor or a merge patch
+ * that changes a field it may not change.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
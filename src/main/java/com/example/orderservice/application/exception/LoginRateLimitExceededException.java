@@ -0,0 +1,22 @@
+package com.example.orderservice.application.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when too many login attempts for the same email failed from one client within the rate limit window.
+ */
+@Getter
+public class LoginRateLimitExceededException extends RuntimeException {
+
+    /**
+     * How long the client should wait before trying again.
+     */
+    private final Duration retryAfter;
+
+    public LoginRateLimitExceededException(Duration retryAfter) {
+        super("Too many login attempts");
+        this.retryAfter = retryAfter;
+    }
+}
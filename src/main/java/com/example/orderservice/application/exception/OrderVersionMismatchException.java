@@ -0,0 +1,20 @@
+package com.example.orderservice.application.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a conditional change of an order is based on a version other than its current one.
+ */
+@Getter
+public class OrderVersionMismatchException extends RuntimeException {
+
+    /**
+     * The current version of the order.
+     */
+    private final Long currentVersion;
+
+    public OrderVersionMismatchException(Long orderId, Long expectedVersion, Long currentVersion) {
+        super(String.format("Order with ID %d is at version %d, not %d", orderId, currentVersion, expectedVersion));
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.orderservice.application.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a password cannot be verified because the password verification workers are saturated.
+ */
+@Getter
+public class PasswordVerificationUnavailableException extends RuntimeException {
+
+    /**
+     * How long the client should wait before trying again.
+     */
+    private final Duration retryAfter;
+
+    public PasswordVerificationUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.orderservice.application.outbox;
+
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+
+import java.util.List;
+
+/**
+ * Destination of the order changes relayed from the outbox, such as a message broker.
+ * <p>
+ * The relay publishes at least once: if publishing fails, or the relay fails before marking the changes as
+ * published, the same changes are published again. Consumers can deduplicate by
+ * {@link OrderChangeDto#getSequence()}.
+ */
+public interface OrderEventPublisher {
+
+    /**
+     * Publishes a batch of changes, returning only once they have been accepted.
+     *
+     * @param changes the changes in ascending sequence order.
+     * @throws RuntimeException if the changes could not be published; they are retried with the next relay run.
+     */
+    void publish(List<OrderChangeDto> changes);
+}
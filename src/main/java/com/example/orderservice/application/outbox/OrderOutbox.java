@@ -0,0 +1,88 @@
+package com.example.orderservice.application.outbox;
+
+import com.example.orderservice.domain.order.OrderChangeType;
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records order changes in the transactional outbox.
+ * <p>
+ * Changes must be recorded in the transaction that makes them, so the outbox never disagrees with the orders
+ * table: a rolled back change leaves no event behind, and a committed one always has its event.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private final OrderOutboxRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records a change of a single order.
+     *
+     * @param type  the kind of change.
+     * @param order the order after the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OrderChangeType type, OrderResponseDto order) {
+        recordAll(type, List.of(order));
+    }
+
+    /**
+     * Records the same kind of change for several orders with one batched insert.
+     *
+     * @param type   the kind of change.
+     * @param orders the orders after the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(OrderChangeType type, List<OrderResponseDto> orders) {
+        Instant now = Instant.now();
+        List<OrderOutboxEvent> events = new ArrayList<>(orders.size());
+        for (OrderResponseDto order : orders) {
+            events.add(new OrderOutboxEvent(null, order.getId(), type, toJson(order), now, null, null));
+        }
+        repository.appendAll(events);
+    }
+
+    /**
+     * Maps a published outbox event to its representation in the change feed.
+     *
+     * @param event the published outbox event.
+     * @return the {@link OrderChangeDto}.
+     */
+    public static OrderChangeDto toDto(OrderOutboxEvent event) {
+        return toDto(event, event.getFeedSequence());
+    }
+
+    /**
+     * Maps an outbox event to its representation in the change feed and in published messages.
+     *
+     * @param event        the outbox event.
+     * @param feedSequence the feed sequence number of the event.
+     * @return the {@link OrderChangeDto}.
+     */
+    public static OrderChangeDto toDto(OrderOutboxEvent event, long feedSequence) {
+        return new OrderChangeDto(feedSequence, event.getOrderId(), event.getChangeType().name(),
+                event.getCreatedAt(), event.getPayload());
+    }
+
+    private String toJson(OrderResponseDto order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order " + order.getId(), e);
+        }
+    }
+}
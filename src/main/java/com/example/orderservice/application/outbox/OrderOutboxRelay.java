@@ -0,0 +1,100 @@
+package com.example.orderservice.application.outbox;
+
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes pending outbox events through the {@link OrderEventPublisher} in batches.
+ * <p>
+ * Each batch is claimed, published and marked as published in one transaction, so a failure rolls the claim
+ * back and the batch is picked up again by the next run. Published events are kept for the configured retention,
+ * as they also back the change feed.
+ * <p>
+ * The relay assigns the feed sequence numbers. It only sees committed events, and reserving the numbers locks the
+ * sequence row until the batch commits, so the change feed serves events in the order they were published and
+ * never passes over an event whose transaction had not committed yet.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository repository;
+    private final OrderEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Maximum number of events published per batch.
+     */
+    @Value("${orders.outbox.relay.batch-size}")
+    private int batchSize;
+
+    /**
+     * How long published events are kept.
+     */
+    @Value("${orders.outbox.retention}")
+    private Duration retention;
+
+    /**
+     * Publishes all pending events, batch by batch, until the outbox is drained.
+     */
+    @Scheduled(fixedDelayString = "${orders.outbox.relay.interval}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> relayBatch());
+            } while (published != null && published == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay order outbox events, retrying with the next run", e);
+        }
+    }
+
+    /**
+     * Deletes published events that are older than the retention.
+     */
+    @Scheduled(fixedDelayString = "${orders.outbox.cleanup-interval}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(
+                status -> repository.deletePublishedBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} expired order outbox events", deleted);
+        }
+    }
+
+    /**
+     * Claims one batch of pending events, assigns their feed sequence numbers, publishes and marks them.
+     *
+     * @return the number of published events.
+     */
+    private int relayBatch() {
+        List<OrderOutboxEvent> events = repository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        long firstFeedSequence = repository.reserveFeedSequences(events.size());
+        List<OrderChangeDto> changes = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            changes.add(OrderOutbox.toDto(events.get(i), firstFeedSequence + i));
+        }
+        publisher.publish(changes);
+        repository.markPublished(events.stream().map(OrderOutboxEvent::getId).toList(), firstFeedSequence,
+                Instant.now());
+        return events.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.orderservice.application.pagination;
+
+import com.example.orderservice.application.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque continuation tokens used by keyset-paginated order listings.
+ * <p>
+ * A cursor carries the ID of the last order returned on the previous page. Clients must treat
+ * it as an opaque string and pass it back unchanged to fetch the next page.
+ */
+public final class OrderCursor {
+
+    private static final String PREFIX = "o:";
+
+    private OrderCursor() {
+    }
+
+    /**
+     * Encodes the ID of the last order of a page into a continuation token.
+     *
+     * @param lastId the ID of the last order returned on the current page.
+     * @return an opaque, URL-safe continuation token.
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a continuation token back into the ID after which the next page starts.
+     *
+     * @param cursor the continuation token, or {@code null} to start from the beginning.
+     * @return the ID after which the next page starts, or {@code 0} if no cursor was supplied.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        long lastId;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            lastId = decoded.startsWith(PREFIX) ? Long.parseLong(decoded.substring(PREFIX.length())) : -1L;
+        } catch (IllegalArgumentException e) {
+            // Covers both malformed Base64 and NumberFormatException
+            throw new InvalidRequestException("Invalid cursor", e);
+        }
+        if (lastId < 0) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+        return lastId;
+    }
+}
@@ -14,9 +14,11 @@ public interface AuthService {
      * Authenticates a user based on the provided credentials and generates an authentication token.
      *
      * @param authenticateDto the {@link AuthenticateDto} object containing the user's email and password.
+     * @param clientAddress   the address of the client sending the credentials, used to limit failed attempts.
      * @return an {@link AuthenticateResponseDto} object containing the generated authentication token and other user-related information.
      * @throws org.springframework.security.authentication.BadCredentialsException if the provided credentials are invalid.
      * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user with the provided email does not exist.
+     * @throws com.example.orderservice.application.exception.LoginRateLimitExceededException if too many logins with the provided email failed from this client.
      */
-    AuthenticateResponseDto login(AuthenticateDto authenticateDto);
+    AuthenticateResponseDto login(AuthenticateDto authenticateDto, String clientAddress);
 }
@@ -1,10 +1,17 @@
 package com.example.orderservice.application.service;
 
 import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
 import com.example.orderservice.presentation.dto.order.OrderRequestDto;
 import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing Orders in the system.
@@ -14,33 +21,148 @@ public interface OrderService {
 
     /**
      * Creates a new order based on the provided {@link OrderRequestDto}.
+     * <p>
+     * The total price, item count and total quantity are computed from the products; a requested total price
+     * must equal the computed one.
      *
      * @param orderRequest the DTO containing the details of the order to create.
      * @return an {@link OrderResponseDto} representing the created order.
+     * @throws com.example.orderservice.application.exception.InvalidOrderException if the requested total price
+     *                                                                               does not match the products.
      */
     OrderResponseDto createOrder(OrderRequestDto orderRequest);
 
+    /**
+     * Creates all valid orders of a bulk ingestion in one transaction.
+     * <p>
+     * Every order is validated on its own; invalid orders are reported in the response and skipped,
+     * while the remaining orders are persisted with batched inserts.
+     *
+     * @param orderRequests the DTOs containing the details of the orders to create.
+     * @return an {@link OrderBatchResponseDto} with the IDs of the created orders and the rejected items.
+     * @throws com.example.orderservice.application.exception.InvalidRequestException if the batch is empty
+     *                                                                                 or larger than the configured
+     *                                                                                 maximum.
+     */
+    OrderBatchResponseDto createOrders(List<OrderRequestDto> orderRequests);
+
     /**
      * Updates an existing order identified by its ID.
      *
-     * @param orderId      the ID of the order to update.
-     * @param orderRequest the DTO containing the updated details of the order.
+     * @param orderId         the ID of the order to update.
+     * @param orderRequest    the DTO containing the updated details of the order.
+     * @param expectedVersion the version of the order the update is based on; {@code null} to update any version.
      * @return an {@link OrderResponseDto} representing the updated order.
+     * @throws com.example.orderservice.application.exception.InvalidOrderException if the requested total price
+     *                                                                               does not match the products.
+     * @throws com.example.orderservice.application.exception.InvalidRequestException if a requested product ID
+     *                                                                                 does not belong to the order.
+     * @throws com.example.orderservice.application.exception.OrderVersionMismatchException if the order is at
+     *                                                                                       another version.
      */
-    OrderResponseDto updateOrder(Long orderId, OrderRequestDto orderRequest);
+    OrderResponseDto updateOrder(Long orderId, OrderRequestDto orderRequest, Long expectedVersion);
 
     /**
-     * Retrieves a list of orders filtered by the provided criteria.
+     * Partially updates an existing order with a JSON Merge Patch (RFC 7386).
+     * <p>
+     * The patch may set {@code status} and {@code totalPrice}, and change {@code products} either as an array,
+     * which replaces the list as in {@link #updateOrder(Long, OrderRequestDto)}, or as an object keyed by
+     * product ID, whose members are merged into that product or remove it when {@code null}.
+     * A patch that does not set {@code totalPrice} has the total recomputed from the patched products.
+     * Only the changed columns of the changed rows are written.
+     *
+     * @param orderId         the ID of the order to patch.
+     * @param patch           the merge patch document.
+     * @param expectedVersion the version of the order the patch is based on; {@code null} to patch any version.
+     * @return an {@link OrderResponseDto} representing the patched order.
+     * @throws com.example.orderservice.application.exception.InvalidRequestException if the patch is malformed
+     *                                                                                 or refers to fields or products
+     *                                                                                 it cannot change.
+     * @throws com.example.orderservice.application.exception.InvalidOrderException if the patched order is invalid.
+     * @throws com.example.orderservice.application.exception.OrderVersionMismatchException if the order is at
+     *                                                                                       another version.
+     */
+    OrderResponseDto patchOrder(Long orderId, JsonNode patch, Long expectedVersion);
+
+    /**
+     * Retrieves a page of orders filtered by the provided criteria, ordered by ascending ID.
+     * <p>
+     * Pagination is keyset-based: the returned page carries an opaque cursor that must be passed back
+     * to fetch the following page.
      *
      * @param status   the status of the orders to retrieve (e.g., PENDING, CONFIRMED, CANCELLED).
      *                 Can be null to ignore this filter.
-     * @param minPrice the minimum total price of the orders to retrieve.
+     * @param minPrice the minimum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @param maxPrice the maximum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @param cursor   the continuation token returned with the previous page.
+     *                 Can be null to start from the first page.
+     * @param limit    the requested page size. Can be null to use the default page size;
+     *                 values above the configured maximum are capped.
+     * @param includeProducts whether to load the products of the orders; without them the orders are listed
+     *                 with their item count and total quantity only, and products are not read at all.
+     * @return an {@link OrderPageResponseDto} with the orders matching the criteria and the next cursor.
+     * @throws com.example.orderservice.application.exception.InvalidRequestException if the cursor is malformed.
+     */
+    OrderPageResponseDto getOrders(OrderStatus status, Long minPrice, Long maxPrice, String cursor, Integer limit,
+                                   boolean includeProducts);
+
+    /**
+     * Streams every order matching the provided criteria to the given consumer, ordered by ascending ID.
+     * <p>
+     * Orders are read through a database cursor and handed over one at a time, so memory usage does not
+     * depend on the size of the result.
+     *
+     * @param status   the status of the orders to retrieve. Can be null to ignore this filter.
+     * @param minPrice the minimum total price of the orders to retrieve, in minor units.
      *                 Can be null to ignore this filter.
-     * @param maxPrice the maximum total price of the orders to retrieve.
+     * @param maxPrice the maximum total price of the orders to retrieve, in minor units.
      *                 Can be null to ignore this filter.
-     * @return a list of {@link OrderResponseDto} representing the orders matching the criteria.
+     * @param includeProducts whether to load the products of the orders, as in
+     *                 {@link #getOrders(OrderStatus, Long, Long, String, Integer, boolean)}.
+     * @param consumer the consumer receiving each {@link OrderResponseDto}.
+     */
+    void streamOrders(OrderStatus status, Long minPrice, Long maxPrice, boolean includeProducts,
+                      Consumer<OrderResponseDto> consumer);
+
+    /**
+     * Computes order statistics grouped by status, and optionally by customer.
+     * <p>
+     * Counts, totals and quantity statistics are aggregated by the database, so the cost of the response does not
+     * depend on the number of orders. Administrators get the statistics of all customers, other users of their
+     * own orders only.
+     *
+     * @param byCustomer whether to group by customer in addition to status.
+     * @return the statistics of each group, ordered by status and customer.
+     */
+    List<OrderStatsDto> getOrderStats(boolean byCustomer);
+
+    /**
+     * Retrieves the order totals of a customer from the incrementally maintained summary.
+     * <p>
+     * The summary is read by primary key, so the cost does not depend on the customer's order history.
+     * Administrators may request any customer; other users always get their own summary.
+     *
+     * @param customerName the customer whose summary to retrieve. Can be null to retrieve the current user's
+     *                     summary; ignored for non-admin users.
+     * @return a {@link CustomerOrderSummaryDto} with the customer's order counts and spend.
+     */
+    CustomerOrderSummaryDto getCustomerSummary(String customerName);
+
+    /**
+     * Retrieves the order changes recorded after the given sequence number, oldest first.
+     * <p>
+     * Changes are read from the transactional outbox, so consumers poll for deltas instead of re-reading the
+     * order listings. A change becomes visible once the relay has published it; the relay assigns the sequence
+     * numbers after the change committed, so a change never appears behind a sequence number already served.
+     *
+     * @param since the sequence number of the last change seen; {@code 0} to start from the oldest retained one.
+     * @param limit the maximum number of changes to return. Can be null to use the default;
+     *              values above the configured maximum are capped.
+     * @return an {@link OrderChangeFeedDto} with the changes and the sequence number to continue from.
      */
-    List<OrderResponseDto> getOrders(OrderStatus status, Double minPrice, Double maxPrice);
+    OrderChangeFeedDto getChanges(long since, Integer limit);
 
     /**
      * Retrieves the details of a specific order by its ID.
@@ -55,8 +177,11 @@ public interface OrderService {
      * Soft deletes an order by marking it as deleted.
      * The order remains in the database but is excluded from normal operations.
      *
-     * @param orderId the ID of the order to delete.
+     * @param orderId         the ID of the order to delete.
+     * @param expectedVersion the version of the order the deletion is based on; {@code null} to delete any version.
      * @throws jakarta.persistence.EntityNotFoundException if no order is found with the given ID.
+     * @throws com.example.orderservice.application.exception.OrderVersionMismatchException if the order is at
+     *                                                                                       another version.
      */
-    void deleteOrder(Long orderId);
+    void deleteOrder(Long orderId, Long expectedVersion);
 }
@@ -0,0 +1,60 @@
+package com.example.orderservice.application.service;
+
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of the read operations of {@link OrderService}.
+ * <p>
+ * Results are produced by R2DBC without holding a request thread while the database works, and follow the
+ * same visibility rules as {@link OrderService}: administrators see the orders of all customers, other users
+ * only their own. The current user is resolved when a method is called, so the methods must be called on
+ * the request thread.
+ */
+public interface ReactiveOrderService {
+
+    /**
+     * Retrieves a page of orders filtered by the provided criteria, ordered by ascending ID.
+     *
+     * @param status   the status of the orders to retrieve. Can be null to ignore this filter.
+     * @param minPrice the minimum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @param maxPrice the maximum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @param cursor   the continuation token returned with the previous page.
+     *                 Can be null to start from the first page.
+     * @param limit    the requested page size. Can be null to use the default page size;
+     *                 values above the configured maximum are capped.
+     * @return an {@link OrderPageResponseDto} with the orders matching the criteria and the next cursor.
+     * @throws com.example.orderservice.application.exception.InvalidRequestException if the cursor is malformed.
+     * @see OrderService#getOrders(OrderStatus, Long, Long, String, Integer)
+     */
+    Mono<OrderPageResponseDto> getOrders(OrderStatus status, Long minPrice, Long maxPrice,
+                                         String cursor, Integer limit);
+
+    /**
+     * Streams every order matching the provided criteria, ordered by ascending ID.
+     * <p>
+     * Orders are read from the database only as fast as the subscriber requests them.
+     *
+     * @param status   the status of the orders to retrieve. Can be null to ignore this filter.
+     * @param minPrice the minimum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @param maxPrice the maximum total price of the orders to retrieve, in minor units.
+     *                 Can be null to ignore this filter.
+     * @return the matching orders.
+     */
+    Flux<OrderResponseDto> streamOrders(OrderStatus status, Long minPrice, Long maxPrice);
+
+    /**
+     * Retrieves the details of a specific order by its ID.
+     *
+     * @param orderId the ID of the order to retrieve.
+     * @return the order; fails with {@link jakarta.persistence.EntityNotFoundException} if no order is found
+     * with the given ID or it belongs to another customer.
+     */
+    Mono<OrderResponseDto> getOrderById(Long orderId);
+}
@@ -3,6 +3,8 @@ package com.example.orderservice.application.service.impl;
 import com.example.orderservice.application.service.AuthService;
 import com.example.orderservice.domain.auth.User;
 import com.example.orderservice.infrastructure.config.security.JwtUtil;
+import com.example.orderservice.infrastructure.config.security.LoginRateLimiter;
+import com.example.orderservice.infrastructure.config.security.PasswordVerifier;
 import com.example.orderservice.infrastructure.repository.UserRepository;
 import com.example.orderservice.presentation.dto.auth.AuthenticateDto;
 import com.example.orderservice.presentation.dto.auth.AuthenticateResponseDto;
@@ -10,9 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -21,19 +21,33 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder encoder;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginRateLimiter loginRateLimiter;
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Not transactional on purpose: the user and its roles are loaded eagerly, and no database connection
+     * is held while the password is verified on the {@link PasswordVerifier} pool. Unknown emails and wrong
+     * passwords count towards the {@link LoginRateLimiter}; a successful login clears the count.
+     */
     @Override
-    @Transactional(readOnly = true)
-    public AuthenticateResponseDto login(AuthenticateDto authenticateDto) {
+    public AuthenticateResponseDto login(AuthenticateDto authenticateDto, String clientAddress) {
+        String email = authenticateDto.getEmail();
+        loginRateLimiter.checkAllowed(email, clientAddress);
 
-        final User user = userRepository.findByEmail(authenticateDto.getEmail()).
-                orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        final User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null) {
+            loginRateLimiter.recordFailure(email, clientAddress);
+            throw new UsernameNotFoundException("User not found");
+        }
 
-        if (encoder.matches(authenticateDto.getPassword(), user.getPassword())) {
+        if (passwordVerifier.matches(authenticateDto.getPassword(), user.getPassword())) {
+            loginRateLimiter.reset(email, clientAddress);
             return new AuthenticateResponseDto(jwtUtil.generateToken(user));
         } else {
             log.info("Invalid password");
+            loginRateLimiter.recordFailure(email, clientAddress);
             throw new BadCredentialsException("Invalid password");
         }
     }
@@ -1,92 +1,760 @@
 package com.example.orderservice.application.service.impl;
 
+import com.example.orderservice.application.cache.OrderCache;
+import com.example.orderservice.application.exception.InvalidOrderException;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.exception.OrderVersionMismatchException;
+import com.example.orderservice.application.outbox.OrderOutbox;
+import com.example.orderservice.application.pagination.OrderCursor;
 import com.example.orderservice.application.service.OrderService;
+import com.example.orderservice.domain.order.CustomerOrderSummary;
 import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderChangeType;
 import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.domain.product.Product;
 import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.repository.CustomerOrderSummaryRepository;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
 import com.example.orderservice.infrastructure.repository.OrderRepository;
+import com.example.orderservice.infrastructure.repository.OrderSpecifications;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchErrorDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
 import com.example.orderservice.presentation.dto.order.OrderRequestDto;
 import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import com.example.orderservice.presentation.dto.product.ProductRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
+    /**
+     * Number of orders loaded together with their products per round-trip while streaming.
+     */
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    /**
+     * Number of orders persisted between flushes of a bulk ingestion.
+     * A multiple of the JDBC batch size, so every flush sends full batches.
+     */
+    private static final int INGEST_CHUNK_SIZE = 500;
+
+    /**
+     * Order in which summary rows are updated. A fixed order keeps concurrent transactions that touch several
+     * customers from locking the same rows in opposite order and deadlocking.
+     */
+    private static final Comparator<CustomerOrderSummary.Key> SUMMARY_KEY_ORDER =
+            Comparator.comparing(CustomerOrderSummary.Key::getCustomerName)
+                    .thenComparing(CustomerOrderSummary.Key::getStatus);
+
+    /**
+     * Fields of an order a merge patch may change.
+     */
+    private static final Set<String> PATCHABLE_ORDER_FIELDS = Set.of("status", "totalPrice", "products");
+
+    /**
+     * Fields of a product a merge patch may change.
+     */
+    private static final Set<String> PATCHABLE_PRODUCT_FIELDS = Set.of("name", "price", "quantity");
+
+    private static final TypeReference<List<ProductRequestDto>> PRODUCT_LIST = new TypeReference<>() {
+    };
+
     private final OrderRepository repository;
     private final OrderMapper mapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final OrderCache orderCache;
+    private final CustomerOrderSummaryRepository summaryRepository;
+    private final OrderOutbox outbox;
+    private final OrderOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Page size used when the client does not request one.
+     */
+    @Value("${orders.pagination.default-limit}")
+    private int defaultLimit;
+
+    /**
+     * Upper bound for the page size a client may request.
+     */
+    @Value("${orders.pagination.max-limit}")
+    private int maxLimit;
+
+    /**
+     * Upper bound for the number of orders in a single bulk ingestion.
+     */
+    @Value("${orders.batch.max-size}")
+    private int maxBatchSize;
+
+    /**
+     * Number of changes returned by the change feed when the client does not request a limit.
+     */
+    @Value("${orders.outbox.feed.default-limit}")
+    private int feedDefaultLimit;
+
+    /**
+     * Upper bound for the number of changes a client may request from the change feed.
+     */
+    @Value("${orders.outbox.feed.max-limit}")
+    private int feedMaxLimit;
 
     @Override
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto orderRequest) {
-        return mapper.toDto(repository.save(mapper.toEntity(orderRequest)));
+        Order order = mapper.toEntity(orderRequest);
+        requireTotals(order, orderRequest.getTotalPrice());
+        Order savedOrder = repository.save(order);
+
+        Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges = new TreeMap<>(SUMMARY_KEY_ORDER);
+        addToSummary(summaryChanges, savedOrder, 1);
+        applySummaryChanges(summaryChanges);
+
+        OrderResponseDto createdOrder = mapper.toDto(savedOrder);
+        outbox.record(OrderChangeType.CREATED, createdOrder);
+        return createdOrder;
     }
 
     @Override
     @Transactional
-    public OrderResponseDto updateOrder(Long orderId, OrderRequestDto orderRequest) {
-        String currentUserEmail = getCurrentUserEmail();
-        Order existingOrder = repository.findByIdAndNotDeleted(orderId)
-                .filter(order -> order.getCustomerName().equals(currentUserEmail) || isAdmin())
-                .orElseThrow(() -> new EntityNotFoundException(
-                        String.format("Order with ID %d not found or access denied", orderId)
-                ));
+    public OrderBatchResponseDto createOrders(List<OrderRequestDto> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new InvalidRequestException("Batch must contain at least one order");
+        }
+        if (orderRequests.size() > maxBatchSize) {
+            throw new InvalidRequestException(
+                    String.format("Batch must not contain more than %d orders", maxBatchSize));
+        }
+
+        List<Long> createdIds = new ArrayList<>(orderRequests.size());
+        List<OrderBatchErrorDto> errors = new ArrayList<>();
+        List<Order> chunk = new ArrayList<>(INGEST_CHUNK_SIZE);
+        Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges = new TreeMap<>(SUMMARY_KEY_ORDER);
+        for (int i = 0; i < orderRequests.size(); i++) {
+            OrderRequestDto orderRequest = orderRequests.get(i);
+            Map<String, String> violations = validate(orderRequest);
+            if (!violations.isEmpty()) {
+                errors.add(new OrderBatchErrorDto(i, violations));
+                continue;
+            }
+            Order order = mapper.toEntity(orderRequest);
+            String totalViolation = applyTotals(order, orderRequest.getTotalPrice());
+            if (totalViolation != null) {
+                errors.add(new OrderBatchErrorDto(i, Map.of("totalPrice", totalViolation)));
+                continue;
+            }
+            addToSummary(summaryChanges, order, 1);
+            chunk.add(order);
+            if (chunk.size() == INGEST_CHUNK_SIZE) {
+                persistChunk(chunk, createdIds);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk, createdIds);
+        }
+        applySummaryChanges(summaryChanges);
+        return new OrderBatchResponseDto(createdIds.size(), errors.size(), createdIds, errors);
+    }
 
-        Order updatedOrder = mapper.toEntity(orderRequest);
-        updatedOrder.setId(existingOrder.getId());
+    @Override
+    @Transactional
+    public OrderResponseDto updateOrder(Long orderId, OrderRequestDto orderRequest, Long expectedVersion) {
+        return applyUpdate(findAccessibleOrder(orderId, expectedVersion), orderRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The patch is applied to the current state of the order and validated like a full update, then written
+     * through the same in-place update, so a status-only patch updates the status column of one row.
+     */
+    @Override
+    @Transactional
+    public OrderResponseDto patchOrder(Long orderId, JsonNode patch, Long expectedVersion) {
+        Order existingOrder = findAccessibleOrder(orderId, expectedVersion);
+        OrderRequestDto patchedOrder = mapper.toRequestDto(existingOrder);
+        applyMergePatch(patchedOrder, patch);
+        if (!patch.has("totalPrice")) {
+            // The current total only holds for the current products, so it is recomputed for the patched ones
+            patchedOrder.setTotalPrice(null);
+        }
 
-        Order savedOrder = repository.save(updatedOrder);
-        return mapper.toDto(savedOrder);
+        Map<String, String> violations = validate(patchedOrder);
+        if (!violations.isEmpty()) {
+            throw new InvalidOrderException(violations);
+        }
+        return applyUpdate(existingOrder, patchedOrder);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponseDto> getOrders(OrderStatus status, Double minPrice, Double maxPrice) {
-        if (isAdmin()) {
-            return repository.findOrdersByFilters(status, minPrice, maxPrice).stream()
-                    .map(mapper::toDto)
-                    .toList();
-        } else {
-            String currentUserEmail = getCurrentUserEmail();
-            return repository.findOrdersByFiltersForUser(currentUserEmail, status, minPrice, maxPrice).stream()
-                    .map(mapper::toDto)
-                    .toList();
+    public OrderPageResponseDto getOrders(OrderStatus status, Long minPrice, Long maxPrice,
+                                          String cursor, Integer limit, boolean includeProducts) {
+        long afterId = OrderCursor.decode(cursor);
+        int pageSize = resolvePageSize(limit);
+        // Fetch one extra row to find out whether another page follows without a count query
+        List<Long> orderIds = repository.findOrderIds(filters(status, minPrice, maxPrice), afterId, pageSize + 1);
+
+        String nextCursor = null;
+        if (orderIds.size() > pageSize) {
+            orderIds = orderIds.subList(0, pageSize);
+            nextCursor = OrderCursor.encode(orderIds.get(pageSize - 1));
+        }
+        return new OrderPageResponseDto(load(orderIds, includeProducts), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOrders(OrderStatus status, Long minPrice, Long maxPrice, boolean includeProducts,
+                             Consumer<OrderResponseDto> consumer) {
+        try (Stream<Long> orderIds = repository.streamOrderIds(filters(status, minPrice, maxPrice))) {
+            List<Long> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            orderIds.forEach(id -> {
+                chunk.add(id);
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    streamChunk(chunk, includeProducts, consumer);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                streamChunk(chunk, includeProducts, consumer);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderStatsDto> getOrderStats(boolean byCustomer) {
+        return repository.aggregateStats(filters(null, null, null), byCustomer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerOrderSummaryDto getCustomerSummary(String customerName) {
+        String summaryCustomer = isAdmin() && customerName != null ? customerName : getCurrentUserEmail();
+
+        Map<String, Long> orderCountByStatus = new LinkedHashMap<>();
+        for (OrderStatus status : OrderStatus.values()) {
+            orderCountByStatus.put(status.name(), 0L);
         }
+        long orderCount = 0;
+        long totalSpend = 0;
+        for (CustomerOrderSummary summary : summaryRepository.findByCustomerName(summaryCustomer)) {
+            orderCountByStatus.put(summary.getStatus().name(), summary.getOrderCount());
+            orderCount += summary.getOrderCount();
+            if (summary.getStatus() != OrderStatus.CANCELLED) {
+                totalSpend += summary.getTotalPrice();
+            }
+        }
+        return new CustomerOrderSummaryDto(summaryCustomer, orderCount, orderCountByStatus, totalSpend);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public OrderChangeFeedDto getChanges(long since, Integer limit) {
+        int pageSize = limit == null ? feedDefaultLimit : Math.max(1, Math.min(limit, feedMaxLimit));
+        List<OrderChangeDto> changes = outboxRepository.findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(
+                        since, Limit.of(pageSize)).stream()
+                .map(OrderOutbox::toDto)
+                .toList();
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return new OrderChangeFeedDto(changes, nextSince);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Orders are served from the {@link OrderCache} when possible. The method is deliberately not
+     * transactional, so a cache hit neither touches the database nor borrows a connection; on a miss the
+     * order is loaded with its products in one query. The ownership check is applied to cached and loaded
+     * orders alike. The loaded order is only cached if no change of it has committed since, see
+     * {@link OrderCache#put(OrderResponseDto)}.
+     */
+    @Override
     public OrderResponseDto getOrderById(Long orderId) {
-        String currentUserEmail = getCurrentUserEmail();
-        Order order = repository.findByIdAndNotDeleted(orderId)
-                .filter(o -> o.getCustomerName().equals(currentUserEmail) || isAdmin())
-                .orElseThrow(() -> new EntityNotFoundException(
-                        String.format("Order with ID %d not found or access denied", orderId)
-                ));
-        return mapper.toDto(order);
+        OrderResponseDto order = orderCache.get(orderId).orElseGet(() -> {
+            OrderResponseDto loaded = repository.findWithProductsByIdAndNotDeleted(orderId)
+                    .map(mapper::toDto)
+                    .orElse(null);
+            if (loaded != null) {
+                orderCache.put(loaded);
+            }
+            return loaded;
+        });
+        if (order == null || !(order.getCustomerName().equals(getCurrentUserEmail()) || isAdmin())) {
+            throw new EntityNotFoundException(
+                    String.format("Order with ID %d not found or access denied", orderId));
+        }
+        return order;
     }
 
     @Override
     @Transactional
-    public void deleteOrder(Long orderId) {
+    public void deleteOrder(Long orderId, Long expectedVersion) {
+        Order order = findAccessibleOrder(orderId, expectedVersion);
+        Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges = new TreeMap<>(SUMMARY_KEY_ORDER);
+        addToSummary(summaryChanges, order, -1);
+
+        order.setIsDeleted(true);
+        order.getProducts().forEach(p -> p.setIsDeleted(true));
+
+        repository.save(order);
+        entityManager.flush();
+        applySummaryChanges(summaryChanges);
+        outbox.record(OrderChangeType.DELETED, mapper.toDto(order));
+        evictFromCache(orderId, order.getVersion());
+    }
+
+    /**
+     * Records the addition ({@code sign = 1}) or removal ({@code sign = -1}) of an order in the pending
+     * changes of the customer order summary.
+     *
+     * @param summaryChanges the pending changes, keyed by customer and status.
+     * @param order          the added or removed order.
+     * @param sign           {@code 1} to add the order, {@code -1} to remove it.
+     */
+    private void addToSummary(Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges, Order order, int sign) {
+        summaryChanges.merge(new CustomerOrderSummary.Key(order.getCustomerName(), order.getStatus()),
+                new SummaryDelta(sign, sign * order.getTotalPrice()), SummaryDelta::plus);
+    }
+
+    /**
+     * Applies the pending changes to the customer order summary as relative increments.
+     * <p>
+     * Rows are created on first use; changes that cancel out, such as an update that keeps customer, status and
+     * price, issue no statements.
+     *
+     * @param summaryChanges the pending changes, keyed by customer and status.
+     */
+    private void applySummaryChanges(Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges) {
+        summaryChanges.forEach((key, delta) -> {
+            if (delta.orderCount() == 0 && delta.totalPrice() == 0) {
+                return;
+            }
+            if (delta.orderCount() > 0) {
+                summaryRepository.insertIfAbsent(key.getCustomerName(), key.getStatus().name());
+            }
+            summaryRepository.increment(key.getCustomerName(), key.getStatus().name(),
+                    delta.orderCount(), delta.totalPrice());
+        });
+    }
+
+    /**
+     * Evicts an order from the {@link OrderCache} once the current transaction has committed.
+     * <p>
+     * Evicting only after the commit ensures a concurrent read cannot put the old state back into the
+     * cache between the eviction and the commit. A read that loaded the old state before the commit but
+     * caches it after the eviction is rejected by the cache, because it carries an older version than the
+     * evicted one.
+     *
+     * @param orderId the ID of the changed order.
+     * @param version the version of the order after the change has been flushed.
+     */
+    private void evictFromCache(Long orderId, Long version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderCache.evict(orderId, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderCache.evict(orderId, version);
+            }
+        });
+    }
+
+    /**
+     * Builds the listing filters for the current user.
+     * Administrators see the orders of all customers, other users only their own.
+     *
+     * @param status   the status filter, may be {@code null}.
+     * @param minPrice the minimum total price filter in minor units, may be {@code null}.
+     * @param maxPrice the maximum total price filter in minor units, may be {@code null}.
+     * @return the specification matching the visible orders.
+     */
+    private Specification<Order> filters(OrderStatus status, Long minPrice, Long maxPrice) {
+        String customerName = isAdmin() ? null : getCurrentUserEmail();
+        return OrderSpecifications.byFilters(customerName, status, minPrice, maxPrice);
+    }
+
+    /**
+     * Loads the orders with the given IDs and maps them to DTOs.
+     * <p>
+     * With products, all of them are fetched by a single join, so the number of statements does not grow with
+     * the number of orders. Without products, only the order rows are read.
+     *
+     * @param orderIds        the IDs of the orders to load, in the order they should be returned.
+     * @param includeProducts whether to load and map the products of the orders.
+     * @return the mapped orders ordered by ID.
+     */
+    private List<OrderResponseDto> load(List<Long> orderIds, boolean includeProducts) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        if (!includeProducts) {
+            return repository.findAllByIdIn(orderIds).stream()
+                    .map(mapper::toDtoWithoutProducts)
+                    .toList();
+        }
+        return repository.findAllWithProductsByIdIn(orderIds).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Loads one chunk of a streamed listing, hands the orders to the consumer and then clears the
+     * persistence context so memory stays flat while the cursor is being consumed.
+     *
+     * @param orderIds        the IDs of the orders in this chunk.
+     * @param includeProducts whether to load and map the products of the orders.
+     * @param consumer        the consumer receiving each {@link OrderResponseDto}.
+     */
+    private void streamChunk(List<Long> orderIds, boolean includeProducts, Consumer<OrderResponseDto> consumer) {
+        load(orderIds, includeProducts).forEach(consumer);
+        entityManager.clear();
+    }
+
+    /**
+     * Validates a single order of a bulk ingestion.
+     * <p>
+     * Besides the bean validation constraints, the status is checked here so that an unknown status
+     * is reported for the offending item instead of failing the whole batch during mapping.
+     *
+     * @param orderRequest the order to validate, may be {@code null}.
+     * @return validation messages keyed by field path; empty if the order is valid.
+     */
+    private Map<String, String> validate(OrderRequestDto orderRequest) {
+        Map<String, String> violations = new LinkedHashMap<>();
+        if (orderRequest == null) {
+            violations.put("order", "Order must not be null");
+            return violations;
+        }
+        Set<ConstraintViolation<OrderRequestDto>> constraintViolations = validator.validate(orderRequest);
+        for (ConstraintViolation<OrderRequestDto> violation : constraintViolations) {
+            violations.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (orderRequest.getStatus() != null && !violations.containsKey("status")) {
+            try {
+                OrderStatus.valueOf(orderRequest.getStatus());
+            } catch (IllegalArgumentException e) {
+                violations.put("status", "Status must be one of " + List.of(OrderStatus.values()));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Derives the total price, item count and total quantity of an order from its products in one pass and checks
+     * the requested total price against the derived one.
+     * <p>
+     * The loop accumulates into primitives with overflow-checked arithmetic, so it neither allocates nor rounds.
+     * Listings and aggregations then read the persisted values instead of adding up products again.
+     *
+     * @param order          the order with its final products; its totals are set if they are valid.
+     * @param requestedTotal the total price sent by the client, in minor units; {@code null} to accept the
+     *                       derived one.
+     * @return the validation message for {@code totalPrice}, or {@code null} if the totals were set.
+     */
+    private static String applyTotals(Order order, Long requestedTotal) {
+        List<Product> products = order.getProducts();
+        int itemCount = products.size();
+        long totalPrice = 0;
+        long totalQuantity = 0;
+        try {
+            // Indexed rather than for-each, so no iterator is created
+            for (int i = 0; i < itemCount; i++) {
+                Product product = products.get(i);
+                int quantity = product.getQuantity();
+                totalPrice = Math.addExact(totalPrice, Math.multiplyExact(product.getPrice().longValue(), quantity));
+                totalQuantity += quantity;
+            }
+        } catch (ArithmeticException e) {
+            return "Total price is out of range";
+        }
+        if (requestedTotal != null && requestedTotal != totalPrice) {
+            return "Total price must equal the sum of product prices times quantities";
+        }
+        order.setTotalPrice(totalPrice);
+        order.setItemCount(itemCount);
+        order.setTotalQuantity(totalQuantity);
+        return null;
+    }
+
+    /**
+     * Sets the totals of an order as {@link #applyTotals(Order, Long)} does.
+     *
+     * @param order          the order with its final products.
+     * @param requestedTotal the total price sent by the client, in minor units; may be {@code null}.
+     * @throws InvalidOrderException if the requested total price does not match the products.
+     */
+    private static void requireTotals(Order order, Long requestedTotal) {
+        String violation = applyTotals(order, requestedTotal);
+        if (violation != null) {
+            throw new InvalidOrderException(Map.of("totalPrice", violation));
+        }
+    }
+
+    /**
+     * Finds a non-deleted order the current user may change, at the version the client last read.
+     * <p>
+     * Checking the version here rejects changes based on a stale read; a change committed concurrently after
+     * this check is still caught by the version condition of the {@code UPDATE}.
+     *
+     * @param orderId         the ID of the order.
+     * @param expectedVersion the version the change is based on; {@code null} to accept any version.
+     * @return the managed order.
+     * @throws EntityNotFoundException     if the order does not exist or belongs to another user.
+     * @throws OrderVersionMismatchException if the order is at a different version.
+     */
+    private Order findAccessibleOrder(Long orderId, Long expectedVersion) {
         String currentUserEmail = getCurrentUserEmail();
         Order order = repository.findByIdAndNotDeleted(orderId)
                 .filter(o -> o.getCustomerName().equals(currentUserEmail) || isAdmin())
                 .orElseThrow(() -> new EntityNotFoundException(
                         String.format("Order with ID %d not found or access denied", orderId)
                 ));
-        order.setIsDeleted(true);
-        order.getProducts().forEach(p -> p.setIsDeleted(true));
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new OrderVersionMismatchException(orderId, expectedVersion, order.getVersion());
+        }
+        return order;
+    }
 
-        repository.save(order);
+    /**
+     * Applies the requested state to a managed order in place and records the change.
+     *
+     * @param existingOrder the managed order to update.
+     * @param orderRequest  the requested state of the order.
+     * @return the updated order.
+     */
+    private OrderResponseDto applyUpdate(Order existingOrder, OrderRequestDto orderRequest) {
+        // Taken before the update, as the new state is applied to the existing order
+        Map<CustomerOrderSummary.Key, SummaryDelta> summaryChanges = new TreeMap<>(SUMMARY_KEY_ORDER);
+        addToSummary(summaryChanges, existingOrder, -1);
+
+        mapper.updateEntity(orderRequest, existingOrder);
+        boolean productsChanged = mergeProducts(existingOrder, orderRequest.getProducts());
+        requireTotals(existingOrder, orderRequest.getTotalPrice());
+        if (productsChanged) {
+            // Product rows carry no version of their own, so the order is touched to be written with them. Hibernate
+            // derives the new version from the loaded one, so it moves once even if the order's columns changed too.
+            existingOrder.setVersion(existingOrder.getVersion() + 1);
+        }
+        // Assigns the IDs of added products and the new version before they are returned
+        entityManager.flush();
+
+        addToSummary(summaryChanges, existingOrder, 1);
+        applySummaryChanges(summaryChanges);
+        evictFromCache(existingOrder.getId(), existingOrder.getVersion());
+
+        OrderResponseDto result = mapper.toDto(existingOrder);
+        outbox.record(OrderChangeType.UPDATED, result);
+        return result;
+    }
+
+    /**
+     * Applies a JSON Merge Patch to the state of an order.
+     * <p>
+     * {@code products} is merged by product ID when given as an object, with {@code null} members removing
+     * the product; an array replaces the whole list, as arrays always do in merge patches.
+     *
+     * @param order the current state of the order, modified in place.
+     * @param patch the merge patch document.
+     * @throws InvalidRequestException if the patch is not an object, changes a field that cannot be patched,
+     *                                 refers to an unknown product or carries a value of the wrong type.
+     */
+    private void applyMergePatch(OrderRequestDto order, JsonNode patch) {
+        requirePatchableFields(patch, PATCHABLE_ORDER_FIELDS, "Order patch");
+        ObjectNode orderPatch = ((ObjectNode) patch).deepCopy();
+        JsonNode productsPatch = orderPatch.remove("products");
+        mergeInto(order, orderPatch);
+
+        if (productsPatch == null) {
+            return;
+        }
+        if (!productsPatch.isObject()) {
+            order.setProducts(productsPatch.isNull() ? null : convertProducts(productsPatch));
+            return;
+        }
+        for (Map.Entry<String, JsonNode> entry : productsPatch.properties()) {
+            ProductRequestDto product = order.getProducts().stream()
+                    .filter(candidate -> String.valueOf(candidate.getId()).equals(entry.getKey()))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException(
+                            String.format("Product with ID %s does not belong to the order", entry.getKey())));
+            if (entry.getValue().isNull()) {
+                order.getProducts().remove(product);
+            } else {
+                requirePatchableFields(entry.getValue(), PATCHABLE_PRODUCT_FIELDS, "Product patch");
+                mergeInto(product, entry.getValue());
+            }
+        }
+    }
+
+    private static void requirePatchableFields(JsonNode patch, Set<String> patchableFields, String description) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException(description + " must be a JSON object");
+        }
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!patchableFields.contains(field)) {
+                throw new InvalidRequestException(String.format(
+                        "%s cannot change '%s', only %s", description, field, patchableFields));
+            }
+        });
+    }
+
+    private void mergeInto(Object target, JsonNode patch) {
+        try {
+            objectMapper.readerForUpdating(target).readValue(patch);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Invalid value in patch: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ProductRequestDto> convertProducts(JsonNode products) {
+        try {
+            return objectMapper.convertValue(products, PRODUCT_LIST);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid products in patch", e);
+        }
+    }
+
+    /**
+     * Reconciles the products of a managed order with the requested ones in place.
+     * <p>
+     * A requested product updates the existing product with its ID or, without an ID, the first unmatched
+     * existing product with the same name. Requested products that match none are added, and existing products
+     * that are not requested are removed. Dirty checking then writes only the changed columns of changed rows,
+     * instead of deleting and re-inserting every product of the order.
+     *
+     * @param order    the managed order to update.
+     * @param requests the requested products.
+     * @return whether any product was changed, added or removed.
+     * @throws InvalidRequestException if a requested product ID does not belong to the order.
+     */
+    private boolean mergeProducts(Order order, List<ProductRequestDto> requests) {
+        Map<Long, Product> unmatched = new LinkedHashMap<>();
+        order.getProducts().forEach(product -> unmatched.put(product.getId(), product));
+
+        List<Product> merged = new ArrayList<>(requests.size());
+        List<ProductRequestDto> unidentified = new ArrayList<>();
+        boolean changed = false;
+        for (ProductRequestDto request : requests) {
+            if (request.getId() == null) {
+                unidentified.add(request);
+                continue;
+            }
+            Product product = unmatched.remove(request.getId());
+            if (product == null) {
+                throw new InvalidRequestException(String.format(
+                        "Product with ID %d does not belong to order %d", request.getId(), order.getId()));
+            }
+            changed |= isChanged(product, request);
+            mapper.updateEntity(request, product);
+            merged.add(product);
+        }
+        for (ProductRequestDto request : unidentified) {
+            Product product = unmatched.values().stream()
+                    .filter(candidate -> candidate.getName().equals(request.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (product == null) {
+                product = mapper.toEntity(request);
+                product.setOrder(order);
+                changed = true;
+            } else {
+                unmatched.remove(product.getId());
+                changed |= isChanged(product, request);
+                mapper.updateEntity(request, product);
+            }
+            merged.add(product);
+        }
+
+        // Orphan removal deletes the products left unmatched
+        order.getProducts().retainAll(merged);
+        merged.stream()
+                .filter(product -> product.getId() == null)
+                .forEach(order.getProducts()::add);
+        return changed || !unmatched.isEmpty();
+    }
+
+    private static boolean isChanged(Product product, ProductRequestDto request) {
+        return !Objects.equals(product.getName(), request.getName())
+                || !Objects.equals(product.getPrice(), request.getPrice())
+                || !Objects.equals(product.getQuantity(), request.getQuantity());
+    }
+
+    /**
+     * Persists one chunk of a bulk ingestion, records it in the outbox and detaches it afterwards.
+     * <p>
+     * Flushing sends the pending inserts of the chunk as JDBC batches, and clearing keeps the persistence
+     * context small while thousands of orders are ingested in one transaction.
+     *
+     * @param chunk      the orders to persist; cleared once they have been written.
+     * @param createdIds the list receiving the IDs of the persisted orders.
+     */
+    private void persistChunk(List<Order> chunk, List<Long> createdIds) {
+        repository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(order -> createdIds.add(order.getId()));
+        outbox.recordAll(OrderChangeType.CREATED, chunk.stream().map(mapper::toDto).toList());
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    /**
+     * Resolves the effective page size for a listing request.
+     * <p>
+     * A missing limit falls back to the configured default, and the result is clamped
+     * to the range {@code [1, maxLimit]}.
+     *
+     * @param limit the requested page size, may be {@code null}.
+     * @return the page size to use.
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        return Math.max(1, Math.min(limit, maxLimit));
     }
 
     /**
@@ -116,4 +784,17 @@ public class OrderServiceImpl implements OrderService {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         return userDetails.getUsername();
     }
+
+    /**
+     * Change of one customer order summary row.
+     *
+     * @param orderCount the change of the number of orders.
+     * @param totalPrice the change of the summed total price, in minor units.
+     */
+    private record SummaryDelta(long orderCount, long totalPrice) {
+
+        SummaryDelta plus(SummaryDelta other) {
+            return new SummaryDelta(orderCount + other.orderCount, totalPrice + other.totalPrice);
+        }
+    }
 }
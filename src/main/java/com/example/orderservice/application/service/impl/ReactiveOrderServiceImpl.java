@@ -0,0 +1,139 @@
+package com.example.orderservice.application.service.impl;
+
+import com.example.orderservice.application.cache.OrderCache;
+import com.example.orderservice.application.pagination.OrderCursor;
+import com.example.orderservice.application.service.ReactiveOrderService;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.infrastructure.repository.reactive.ReactiveOrderRepository;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.reactive.enabled", havingValue = "true")
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private final ReactiveOrderRepository repository;
+    private final OrderCache orderCache;
+
+    /**
+     * Page size used when the client does not request one.
+     */
+    @Value("${orders.pagination.default-limit}")
+    private int defaultLimit;
+
+    /**
+     * Upper bound for the page size a client may request.
+     */
+    @Value("${orders.pagination.max-limit}")
+    private int maxLimit;
+
+    @Override
+    public Mono<OrderPageResponseDto> getOrders(OrderStatus status, Long minPrice, Long maxPrice,
+                                                String cursor, Integer limit) {
+        long afterId = OrderCursor.decode(cursor);
+        int pageSize = resolvePageSize(limit);
+        // Fetch one extra row to find out whether another page follows without a count query
+        return repository.findOrders(visibleCustomerName(), status, minPrice, maxPrice, afterId, pageSize + 1)
+                .collectList()
+                .map(orders -> toPage(orders, pageSize));
+    }
+
+    @Override
+    public Flux<OrderResponseDto> streamOrders(OrderStatus status, Long minPrice, Long maxPrice) {
+        return repository.streamOrders(visibleCustomerName(), status, minPrice, maxPrice);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Shares the {@link OrderCache} with the blocking read path, so a cached order is returned without a
+     * database round-trip.
+     */
+    @Override
+    public Mono<OrderResponseDto> getOrderById(Long orderId) {
+        String currentUserEmail = getCurrentUserEmail();
+        boolean admin = isAdmin();
+        Mono<OrderResponseDto> order = orderCache.get(orderId)
+                .map(Mono::just)
+                .orElseGet(() -> repository.findById(orderId).doOnNext(orderCache::put));
+        return order
+                .filter(o -> o.getCustomerName().equals(currentUserEmail) || admin)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException(
+                        String.format("Order with ID %d not found or access denied", orderId))));
+    }
+
+    /**
+     * Cuts the extra row fetched beyond the page size off and derives the next cursor from it.
+     *
+     * @param orders   the orders read for the page, at most one more than the page size.
+     * @param pageSize the requested page size.
+     * @return the page.
+     */
+    private OrderPageResponseDto toPage(List<OrderResponseDto> orders, int pageSize) {
+        if (orders.size() <= pageSize) {
+            return new OrderPageResponseDto(orders, null);
+        }
+        List<OrderResponseDto> page = orders.subList(0, pageSize);
+        return new OrderPageResponseDto(page, OrderCursor.encode(page.get(pageSize - 1).getId()));
+    }
+
+    /**
+     * Resolves whose orders the current user may list.
+     *
+     * @return {@code null} for administrators, who see all orders, otherwise the email of the current user.
+     */
+    private String visibleCustomerName() {
+        return isAdmin() ? null : getCurrentUserEmail();
+    }
+
+    /**
+     * Resolves the effective page size for a listing request.
+     * <p>
+     * A missing limit falls back to the configured default, and the result is clamped
+     * to the range {@code [1, maxLimit]}.
+     *
+     * @param limit the requested page size, may be {@code null}.
+     * @return the page size to use.
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        return Math.max(1, Math.min(limit, maxLimit));
+    }
+
+    /**
+     * Checks if the currently authenticated user has the "Admin" role.
+     *
+     * @return {@code true} if the current user has the "Admin" role, {@code false} otherwise.
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_Admin"));
+    }
+
+    /**
+     * Retrieves the email of the currently authenticated user.
+     *
+     * @return the email of the currently authenticated user.
+     */
+    private String getCurrentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return userDetails.getUsername();
+    }
+}
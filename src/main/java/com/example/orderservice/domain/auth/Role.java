@@ -4,7 +4,10 @@ import com.example.orderservice.domain.base.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,6 +19,8 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Table(name = "role", schema = "app_schema")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
+@SequenceGenerator(name = "role_seq", sequenceName = "role_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 public class Role extends BaseEntity {
 
     @Column(name = "name")
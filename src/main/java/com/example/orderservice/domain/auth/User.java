@@ -8,7 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,6 +25,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "user", schema = "app_schema")
+@SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 public class User extends BaseEntity {
 
     @Column(name = "first_name")
@@ -33,6 +37,7 @@ public class User extends BaseEntity {
     @Column(name = "password")
     private String password;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @ManyToMany(fetch = FetchType.EAGER,
             cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinTable(name = "user_role",
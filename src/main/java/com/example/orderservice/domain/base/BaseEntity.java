@@ -5,7 +5,6 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
-import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -15,9 +14,15 @@ import lombok.Setter;
 @MappedSuperclass
 public class BaseEntity {
 
+    /**
+     * Number of IDs reserved per sequence call. Must match the {@code INCREMENT BY} of the database sequences.
+     * <p>
+     * IDs come from the sequence each entity declares with a class-level {@link jakarta.persistence.SequenceGenerator}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequence")
-    @SequenceGenerator(name = "sequence", sequenceName = "sequence", allocationSize = 1)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,56 @@
+package com.example.orderservice.domain.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions of monetary amounts held as {@code long} minor units (cents).
+ * <p>
+ * Prices are stored, compared and summed as exact integers, so mapping, filtering and aggregating them neither
+ * allocates nor drifts. Amounts are converted to and from decimal major units only at the API boundary.
+ */
+public final class Money {
+
+    /**
+     * Number of decimal places of the minor unit.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Number of minor units in one major unit.
+     */
+    public static final long MINOR_UNITS_PER_MAJOR_UNIT = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Converts an amount in major units to minor units.
+     *
+     * @param amount the amount in major units.
+     * @return the amount in minor units.
+     * @throws ArithmeticException if the amount has more than {@link #SCALE} decimal places or does not fit
+     *                             into a {@code long}.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Converts an amount in major units to minor units, rounding fractions of a minor unit.
+     * Used for bounds of price ranges, where {@link RoundingMode#CEILING} and {@link RoundingMode#FLOOR} keep
+     * a range matching exactly the amounts it matched in major units.
+     *
+     * @param amount   the amount in major units.
+     * @param rounding how to round fractions of a minor unit.
+     * @return the amount in minor units.
+     * @throws IllegalArgumentException if the amount does not fit into a {@code long}.
+     */
+    public static long toMinorUnits(BigDecimal amount, RoundingMode rounding) {
+        try {
+            return amount.movePointRight(SCALE).setScale(0, rounding).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is out of range: " + amount, e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.orderservice.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Running totals of the non-deleted orders of one customer in one status.
+ * <p>
+ * Rows are maintained incrementally whenever an order is created, updated or deleted, so a customer's summary
+ * is read by primary key instead of aggregating the order history.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "customer_order_summary")
+@IdClass(CustomerOrderSummary.Key.class)
+public class CustomerOrderSummary {
+
+    @Id
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    /**
+     * Summed total price of the orders in minor units.
+     */
+    @Column(name = "total_price", nullable = false)
+    private Long totalPrice;
+
+    /**
+     * Composite primary key of {@link CustomerOrderSummary}.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String customerName;
+        private OrderStatus status;
+    }
+}
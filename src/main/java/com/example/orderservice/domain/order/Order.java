@@ -8,11 +8,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +25,9 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 @Table(name = "orders")
+@SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 public class Order extends BaseEntity {
 
     @Column(name = "customer_name", nullable = false)
@@ -32,8 +37,31 @@ public class Order extends BaseEntity {
     @Column(name = "status", nullable = false)
     private OrderStatus status;
 
+    /**
+     * Total price in minor units; see {@link com.example.orderservice.domain.money.Money}.
+     */
     @Column(name = "total_price", nullable = false)
-    private Double totalPrice;
+    private Long totalPrice;
+
+    /**
+     * Number of product lines, kept with the total price whenever the products change, so listings can show it
+     * without reading them.
+     */
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount = 0;
+
+    /**
+     * Sum of the quantities of all products, kept like {@link #itemCount}.
+     */
+    @Column(name = "total_quantity", nullable = false)
+    private Long totalQuantity = 0L;
+
+    /**
+     * Incremented with every change of the order or its products; exposed to clients as the order's ETag.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Product> products = new ArrayList<>();
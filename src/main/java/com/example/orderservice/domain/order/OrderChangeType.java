@@ -0,0 +1,10 @@
+package com.example.orderservice.domain.order;
+
+/**
+ * Kind of change recorded for an order in the outbox.
+ */
+public enum OrderChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
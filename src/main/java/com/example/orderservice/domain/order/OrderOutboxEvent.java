@@ -0,0 +1,72 @@
+package com.example.orderservice.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * A change of an order, written to the outbox in the transaction that made the change.
+ * <p>
+ * The ID is assigned by the database when the row is inserted; rows are inserted in JDBC batches by
+ * {@code OrderOutboxRepository#appendAll}, not through the persistence context. The sequence number of the change
+ * feed is only assigned when the relay publishes the event, see {@link #feedSequence}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_outbox")
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private OrderChangeType changeType;
+
+    /**
+     * The order after the change, serialized as JSON.
+     */
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * When the relay handed the change to the publisher; {@code null} while it is pending.
+     */
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    /**
+     * Sequence number of the change in the change feed; {@code null} while it is pending.
+     * <p>
+     * IDs are assigned at insert, so a long transaction can commit an event with a lower ID after later events
+     * were already read. Feed sequence numbers are assigned by the relay, which only sees committed events and
+     * assigns them under a lock held until it commits, so they become visible in ascending order.
+     */
+    @Column(name = "feed_sequence", unique = true)
+    private Long feedSequence;
+}
@@ -0,0 +1,37 @@
+package com.example.orderservice.domain.order;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The last feed sequence number assigned to a published outbox event, kept in a single row.
+ * <p>
+ * The relay reserves sequence numbers by incrementing the row, which locks it until the relay commits. Relays of
+ * several instances therefore assign and commit sequence numbers one after the other, and the change feed never
+ * sees a higher sequence number before a lower one. Updated with plain JDBC by
+ * {@code OrderOutboxRepository#reserveFeedSequences}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "order_outbox_sequence")
+public class OrderOutboxSequence {
+
+    /**
+     * ID of the single row.
+     */
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+}
@@ -6,25 +6,32 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 @Table(name = "products")
+@SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = BaseEntity.ID_ALLOCATION_SIZE)
 public class Product extends BaseEntity {
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    /**
+     * Price in minor units; see {@link com.example.orderservice.domain.money.Money}.
+     */
     @Column(name = "price", nullable = false)
-    private Double price;
+    private Long price;
 
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
@@ -0,0 +1,80 @@
+package com.example.orderservice.infrastructure.cache;
+
+import com.example.orderservice.application.cache.OrderCache;
+import com.example.orderservice.infrastructure.config.cache.CacheConfig;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link OrderCache} backed by the Caffeine cache registered as {@link CacheConfig#ORDERS}.
+ * <p>
+ * An evicted order leaves an {@link Evicted} marker with the committed version behind, against which later puts
+ * are compared. Puts and evictions compare and write an entry in one atomic {@code compute} on the cache's map.
+ * <p>
+ * All access goes through the map view, which records no statistics; lookups record their hits and misses on
+ * the cache's {@link StatsCounter} themselves, so a marker counts as a miss and puts and evictions count as
+ * neither.
+ */
+@Component
+public class CaffeineOrderCache implements OrderCache {
+
+    private final ConcurrentMap<Object, Object> entries;
+    private final StatsCounter stats;
+
+    public CaffeineOrderCache(CacheManager cacheManager,
+                              @Qualifier(CacheConfig.ORDERS_STATS) StatsCounter stats) {
+        this.entries = ((CaffeineCache) cacheManager.getCache(CacheConfig.ORDERS)).getNativeCache().asMap();
+        this.stats = stats;
+    }
+
+    @Override
+    public Optional<OrderResponseDto> get(Long orderId) {
+        if (entries.get(orderId) instanceof OrderResponseDto order) {
+            stats.recordHits(1);
+            return Optional.of(order);
+        }
+        stats.recordMisses(1);
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(OrderResponseDto order) {
+        long version = versionOf(order.getVersion());
+        entries.compute(order.getId(), (id, current) -> version >= versionOfEntry(current) ? order : current);
+    }
+
+    @Override
+    public void evict(Long orderId, Long version) {
+        long evictedVersion = versionOf(version);
+        entries.compute(orderId, (id, current) -> new Evicted(Math.max(evictedVersion, versionOfEntry(current))));
+    }
+
+    private static long versionOfEntry(Object entry) {
+        if (entry instanceof Evicted evicted) {
+            return evicted.version();
+        }
+        if (entry instanceof OrderResponseDto order) {
+            return versionOf(order.getVersion());
+        }
+        return Long.MIN_VALUE;
+    }
+
+    private static long versionOf(Long version) {
+        return version == null ? Long.MIN_VALUE : version;
+    }
+
+    /**
+     * Marker left in place of an evicted order, holding the version its change committed.
+     *
+     * @param version the committed version.
+     */
+    private record Evicted(long version) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.orderservice.infrastructure.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Cache configuration for the application.
+ * <p>
+ * All caches are in-process Caffeine caches with their own size bound and TTL. Statistics are
+ * recorded so that hit, miss and eviction counts are published through the actuator metrics endpoint.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Name of the cache holding authenticated principals keyed by email.
+     */
+    public static final String PRINCIPALS = "principals";
+
+    /**
+     * Name of the cache holding orders returned by {@code GET /orders/{orderId}}, keyed by order ID.
+     */
+    public static final String ORDERS = "orders";
+
+    /**
+     * Name of the {@link StatsCounter} of the {@link #ORDERS} cache, through which the order cache records its
+     * own hits and misses.
+     */
+    public static final String ORDERS_STATS = "ordersCacheStats";
+
+    /**
+     * Creates the statistics counter of the {@link #ORDERS} cache.
+     *
+     * @return the statistics counter
+     */
+    @Bean(ORDERS_STATS)
+    public StatsCounter ordersCacheStats() {
+        return new ConcurrentStatsCounter();
+    }
+
+    /**
+     * Creates the {@link CacheManager} with all application caches registered up front,
+     * so their metrics are bound at startup.
+     *
+     * @param principalsMaximumSize      the maximum number of cached principals
+     * @param principalsExpireAfterWrite how long a principal stays cached after it was loaded
+     * @param ordersMaximumSize          the maximum number of cached orders
+     * @param ordersExpireAfterWrite     how long an order stays cached after it was loaded
+     * @param ordersStats                the statistics counter of the orders cache
+     * @return the configured {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${jwt.principal-cache.maximum-size}") long principalsMaximumSize,
+                                     @Value("${jwt.principal-cache.expire-after-write}")
+                                     Duration principalsExpireAfterWrite,
+                                     @Value("${orders.cache.maximum-size}") long ordersMaximumSize,
+                                     @Value("${orders.cache.expire-after-write}") Duration ordersExpireAfterWrite,
+                                     @Qualifier(ORDERS_STATS) StatsCounter ordersStats) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(principalsMaximumSize)
+                .expireAfterWrite(principalsExpireAfterWrite)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(ORDERS, Caffeine.newBuilder()
+                .maximumSize(ordersMaximumSize)
+                .expireAfterWrite(ordersExpireAfterWrite)
+                .recordStats(() -> ordersStats)
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.orderservice.infrastructure.config.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled runs of the order outbox relay.
+ * Disabled together with the relay by {@code orders.outbox.relay.enabled=false}.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "orders.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+}
@@ -0,0 +1,65 @@
+package com.example.orderservice.infrastructure.config.r2dbc;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * R2DBC configuration of the non-blocking order read API.
+ * <p>
+ * The connection pool is deliberately not exposed as a {@link io.r2dbc.spi.ConnectionFactory} bean: Spring Boot
+ * backs off from configuring the JDBC {@code DataSource} as soon as one exists, and JPA, Liquibase and all
+ * writes depend on it. Only the {@link DatabaseClient} is published, and the pool is closed with the context.
+ */
+@Configuration
+@ConditionalOnProperty(name = "orders.reactive.enabled", havingValue = "true")
+public class ReactiveDataConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Creates the {@link DatabaseClient} used by the reactive repositories, backed by its own connection pool.
+     *
+     * @param url            the R2DBC URL of the database
+     * @param username       the database user
+     * @param password       the database password
+     * @param maxSize        the maximum number of pooled connections
+     * @param maxAcquireTime how long a query waits for a free connection before it fails
+     * @return the configured {@link DatabaseClient}
+     */
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(@Value("${orders.reactive.r2dbc.url}") String url,
+                                                 @Value("${orders.reactive.r2dbc.username}") String username,
+                                                 @Value("${orders.reactive.r2dbc.password}") String password,
+                                                 @Value("${orders.reactive.r2dbc.max-size}") int maxSize,
+                                                 @Value("${orders.reactive.r2dbc.max-acquire-time}")
+                                                 Duration maxAcquireTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(0)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .name("reactive-orders")
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
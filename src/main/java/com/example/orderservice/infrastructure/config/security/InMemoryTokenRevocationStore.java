@@ -0,0 +1,50 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+/**
+ * In-process implementation of {@link TokenRevocationStore}.
+ * <p>
+ * Revocations are kept only as long as the longest-lived token they can affect, so the store stays small.
+ * Revocations are local to this instance; deployments with several instances need a shared implementation.
+ */
+@Component
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * Per-user instant before which issued tokens are rejected.
+     */
+    private final Cache<Long, Instant> revocations;
+
+    public InMemoryTokenRevocationStore(@Value("${jwt.expiration}") long expiration) {
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(expiration))
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The instant is truncated to whole seconds, the precision of the JWT {@code iat} claim. Otherwise a token
+     * issued later in the same second, whose {@code iat} is the start of that second, would be rejected too.
+     */
+    @Override
+    public void revokeTokensIssuedBefore(Long userId, Instant instant) {
+        revocations.asMap().merge(userId, instant.truncatedTo(ChronoUnit.SECONDS),
+                (current, requested) -> requested.isAfter(current) ? requested : current);
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Instant revokedBefore = revocations.getIfPresent(userId);
+        return revokedBefore != null && (issuedAt == null || issuedAt.toInstant().isBefore(revokedBefore));
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.orderservice.infrastructure.config.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -18,6 +21,10 @@ import java.io.IOException;
  * It extracts the JWT token from the `Authorization` header, validates it, and sets the
  * authentication context for the current user if the token is valid.
  * <p>
+ * Depending on {@code jwt.authentication-mode}, the principal is either loaded from the user store
+ * ({@link JwtAuthenticationMode#DATABASE}) or rebuilt from the token claims alone
+ * ({@link JwtAuthenticationMode#CLAIMS}).
+ * <p>
  * This filter extends {@link OncePerRequestFilter} to ensure that it is executed only once
  * per request.
  */
@@ -26,8 +33,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
-     * Utility class for handling JWT operations such as extracting the username
-     * and validating the token.
+     * Utility class for handling JWT operations such as verifying the token and extracting its claims.
      */
     private final JwtUtil jwtUtil;
 
@@ -37,6 +43,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final JwtUserDetailsService userDetailsService;
 
+    /**
+     * Factory used to rebuild principals from token claims.
+     */
+    private final JwtUserFactory jwtUserFactory;
+
+    /**
+     * Store of revoked tokens, consulted when principals are rebuilt from token claims.
+     */
+    private final TokenRevocationStore tokenRevocationStore;
+
+    /**
+     * How the principal of an authenticated request is built.
+     */
+    @Value("${jwt.authentication-mode}")
+    private JwtAuthenticationMode authenticationMode;
+
+    /**
+     * Whether tokens are checked against the {@link TokenRevocationStore} in claims mode.
+     */
+    @Value("${jwt.revocation-check-enabled}")
+    private boolean revocationCheckEnabled;
+
     /**
      * Filters each request to handle JWT authentication.
      *
@@ -54,17 +82,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
 
         // Check if the header contains a Bearer token
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = authHeader.substring(7);
-            String username = jwtUtil.extractUsername(token);
 
-            // If username is valid and no authentication exists in the context
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                // Load user details from the database
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Verify the token once before touching the user store
+            Claims claims = jwtUtil.verifyAndParse(token).orElse(null);
+            if (claims != null) {
+                UserDetails userDetails = authenticationMode == JwtAuthenticationMode.CLAIMS
+                        ? loadFromClaims(claims)
+                        : loadFromDatabase(claims);
 
-                // Validate the token
-                if (jwtUtil.validateToken(token)) {
+                if (userDetails != null) {
                     // Create an authentication object and set it in the security context
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -76,4 +105,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Pass the request and response to the next filter in the chain
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Loads the principal of a verified token from the user store (served from the principal cache when possible).
+     *
+     * @param claims the verified claims of the token
+     * @return the principal, or {@code null} if the user no longer exists
+     */
+    private UserDetails loadFromDatabase(Claims claims) {
+        try {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            // The token outlived its user; leave the request unauthenticated
+            return null;
+        }
+    }
+
+    /**
+     * Rebuilds the principal of a verified token from its claims, without any database access.
+     *
+     * @param claims the verified claims of the token
+     * @return the principal, or {@code null} if the token has been revoked
+     */
+    private UserDetails loadFromClaims(Claims claims) {
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
+        if (revocationCheckEnabled && tokenRevocationStore.isRevoked(userId, claims.getIssuedAt())) {
+            return null;
+        }
+        return jwtUserFactory.create(claims);
+    }
 }
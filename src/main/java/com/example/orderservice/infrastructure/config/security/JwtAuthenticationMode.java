@@ -0,0 +1,18 @@
+package com.example.orderservice.infrastructure.config.security;
+
+/**
+ * Strategy used by {@link JwtAuthenticationFilter} to build the principal of an authenticated request.
+ */
+public enum JwtAuthenticationMode {
+
+    /**
+     * The principal is loaded from the user store (through the principal cache) on every request.
+     */
+    DATABASE,
+
+    /**
+     * The principal is rebuilt from the verified token claims without any database access.
+     * Role changes only take effect once tokens issued before them are revoked or expire.
+     */
+    CLAIMS
+}
@@ -1,9 +1,12 @@
 package com.example.orderservice.infrastructure.config.security;
 
 import com.example.orderservice.domain.auth.User;
+import com.example.orderservice.infrastructure.config.cache.CacheConfig;
 import com.example.orderservice.infrastructure.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,6 +17,8 @@ import org.springframework.stereotype.Service;
  * <p>
  * This service is responsible for loading user details from the database and converting
  * them into a format compatible with Spring Security using {@link JwtUserFactory}.
+ * Loaded principals are cached in the {@link CacheConfig#PRINCIPALS} cache, so repeated requests
+ * of the same user do not hit the database until the entry expires or is evicted.
  */
 @Service
 @Slf4j
@@ -42,6 +47,7 @@ public class JwtUserDetailsService implements UserDetailsService {
      * @throws UsernameNotFoundException if no user is found with the specified email
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // Fetch user from the repository
         User user = repository.findByEmail(email)
@@ -51,7 +57,31 @@ public class JwtUserDetailsService implements UserDetailsService {
                 });
 
         // Convert User to JwtUser using JwtUserFactory
-        log.info("Successfully loaded user: {}", user.getEmail());
+        log.debug("Successfully loaded user: {}", user.getEmail());
         return jwtUserFactory.create(user);
     }
+
+    /**
+     * Evicts the cached principal of a single user.
+     * <p>
+     * Must be called whenever the roles or the password of that user change, so the next request
+     * reloads the user from the database. When principals are trusted from token claims, the user's
+     * tokens must be revoked through {@link TokenRevocationStore} as well.
+     *
+     * @param email the email of the user whose cached principal should be evicted
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, key = "#email")
+    public void evictUser(String email) {
+        log.debug("Evicting cached principal: {}", email);
+    }
+
+    /**
+     * Evicts all cached principals.
+     * <p>
+     * Must be called when a change affects many users at once, for example when a role is renamed or removed.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, allEntries = true)
+    public void evictAllUsers() {
+        log.debug("Evicting all cached principals");
+    }
 }
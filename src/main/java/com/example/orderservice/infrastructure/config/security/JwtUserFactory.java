@@ -2,6 +2,7 @@ package com.example.orderservice.infrastructure.config.security;
 
 import com.example.orderservice.domain.auth.Role;
 import com.example.orderservice.domain.auth.User;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
@@ -36,6 +37,29 @@ public class JwtUserFactory {
         );
     }
 
+    /**
+     * Creates a {@link JwtUser} from the verified claims of a JWT token, without any database access.
+     * <p>
+     * Only the ID, email and roles are carried by the token, so the first and last name are left empty
+     * and no password is set.
+     *
+     * @param claims the verified claims of the token
+     * @return a {@link JwtUser} instance containing user details and authorities
+     */
+    public JwtUser create(Claims claims) {
+        List<?> roleNames = claims.get(JwtUtil.ROLES_CLAIM, List.class);
+        return new JwtUser(
+                claims.get(JwtUtil.USER_ID_CLAIM, Long.class),
+                null,
+                null,
+                claims.getSubject(),
+                null,
+                roleNames == null ? List.of() : roleNames.stream()
+                        .map(roleName -> new SimpleGrantedAuthority("ROLE_" + roleName))
+                        .toList()
+        );
+    }
+
     /**
      * Maps a list of {@link Role} entities to a list of {@link GrantedAuthority}.
      * <p>
@@ -2,7 +2,12 @@ package com.example.orderservice.infrastructure.config.security;
 
 import com.example.orderservice.domain.auth.Role;
 import com.example.orderservice.domain.auth.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,31 +15,86 @@ import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for handling JWT (JSON Web Token) operations such as token generation,
  * validation, and extracting claims (e.g., username and roles).
+ * <p>
+ * The signing key and the parser are built once at startup and shared by all requests. Optionally,
+ * recently verified tokens are remembered (by their SHA-256 hash) until they expire, so repeated
+ * requests with the same token skip signature verification and claims parsing.
  */
 @Component
 public class JwtUtil {
 
     /**
-     * Secret key used for signing the JWT tokens.
-     * Injected from application properties.
+     * Claim holding the names of the user's roles.
      */
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * Claim holding the ID of the user.
+     */
+    public static final String USER_ID_CLAIM = "userId";
+
+    /**
+     * Claim holding the email of the user.
+     */
+    public static final String EMAIL_CLAIM = "email";
+
+    /**
+     * Key used for signing and verifying the JWT tokens, derived once from the configured secret.
+     */
+    private final SecretKey signingKey;
+
+    /**
+     * Thread-safe parser verifying signatures with {@link #signingKey}.
+     */
+    private final JwtParser parser;
 
     /**
      * Token expiration time in seconds.
-     * Injected from application properties.
      */
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
+
+    /**
+     * Recently verified tokens keyed by their hash, or {@code null} when the cache is disabled.
+     */
+    private final Cache<String, Claims> verifiedTokens;
+
+    /**
+     * Creates the utility with a pre-built signing key and parser.
+     *
+     * @param secretKey                 secret key used for signing the JWT tokens
+     * @param expiration                token expiration time in seconds
+     * @param verifiedTokenCacheSize    maximum number of remembered verified tokens; {@code 0} disables the cache
+     */
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.verified-token-cache.maximum-size}") long verifiedTokenCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.expiration = expiration;
+        this.verifiedTokens = verifiedTokenCacheSize > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build()
+                : null;
+    }
 
     /**
      * Generates a JWT token for the given user.
@@ -47,9 +107,9 @@ public class JwtUtil {
      */
     public String generateToken(User user) {
         Claims claims = Jwts.claims().setSubject(user.getEmail());
-        claims.put("roles", getTypesNames(user.getRoles()));
-        claims.put("userId", user.getId());
-        claims.put("email", user.getEmail());
+        claims.put(ROLES_CLAIM, getTypesNames(user.getRoles()));
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(EMAIL_CLAIM, user.getEmail());
 
         final ZonedDateTime now = ZonedDateTime.now();
 
@@ -57,23 +117,54 @@ public class JwtUtil {
                 .setClaims(claims)
                 .setIssuedAt(Date.from(now.toInstant()))
                 .setExpiration(Date.from(now.plusSeconds(expiration).toInstant()))
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiration of the provided JWT token and returns its claims in a single pass.
+     * <p>
+     * This is the method to use on the request path: the token is parsed once, and when the verified-token
+     * cache is enabled, a token seen recently is not parsed again until it expires.
+     *
+     * @param token the JWT token
+     * @return the verified claims, or an empty {@link Optional} if the token is invalid or expired
+     */
+    public Optional<Claims> verifyAndParse(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            // The cache expires entries with the token, but guard against the clock crossing it mid-lookup
+            return cached.getExpiration().after(new Date()) ? Optional.of(cached) : Optional.empty();
+        }
+        Optional<Claims> claims = parse(token);
+        claims.ifPresent(verified -> verifiedTokens.put(tokenHash, verified));
+        return claims;
+    }
+
     /**
      * Extracts the username (subject) from the provided JWT token.
      *
      * @param token the JWT token
      * @return the username (subject) contained in the token
+     * @throws JwtException if the token is invalid or expired
      */
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return extractClaims(token).getSubject();
+    }
+
+    /**
+     * Extracts all claims from the provided JWT token, verifying its signature and expiration.
+     *
+     * @param token the JWT token
+     * @return the claims contained in the token
+     * @throws JwtException if the token is invalid or expired
+     */
+    public Claims extractClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -83,14 +174,35 @@ public class JwtUtil {
      * @return {@code true} if the token is valid, {@code false} otherwise
      */
     public boolean validateToken(String token) {
+        return verifyAndParse(token).isPresent();
+    }
+
+    /**
+     * Parses and verifies the token without consulting the verified-token cache.
+     *
+     * @param token the JWT token
+     * @return the verified claims, or an empty {@link Optional} if the token is invalid or expired
+     */
+    private Optional<Claims> parse(String token) {
+        try {
+            return Optional.of(extractClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Hashes a token so that raw tokens are never kept in memory by the verified-token cache.
+     *
+     * @param token the JWT token
+     * @return the Base64-encoded SHA-256 hash of the token
+     */
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
@@ -108,4 +220,26 @@ public class JwtUtil {
         roles.forEach(t -> result.add(t.getName()));
         return result;
     }
+
+    /**
+     * Expires cached claims exactly when the token they belong to expires.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
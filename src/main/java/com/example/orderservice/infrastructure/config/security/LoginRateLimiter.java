@@ -0,0 +1,115 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.application.exception.LoginRateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of failed login attempts per email and client address, and per email across all addresses,
+ * within a fixed time window.
+ * <p>
+ * The window starts with the first failure and is tracked in memory, so the limits apply per instance. Only
+ * failed attempts count, and a successful login clears them, so a user who logs in often is never limited.
+ * The tight per-address limit stops guessing from one address without letting it lock out the same email used
+ * from another. The looser per-email limit still throttles guessing against one account from rotating addresses;
+ * an attacker who reaches it does lock the account for the rest of the window, which is the price of that cap.
+ * <p>
+ * The limit is checked before the user is looked up and the password verified, so a login storm against one
+ * account costs neither database queries nor BCrypt time once the limit is reached.
+ * Rejected attempts are counted in the {@code auth.login.rate.limited} metric.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final int maxAttempts;
+    private final int maxAttemptsPerEmail;
+    private final Duration window;
+    private final Cache<Key, AtomicInteger> failures;
+    private final Counter rateLimitedCounter;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${auth.login-rate-limit.max-attempts}") int maxAttempts,
+                            @Value("${auth.login-rate-limit.max-attempts-per-email}") int maxAttemptsPerEmail,
+                            @Value("${auth.login-rate-limit.window}") Duration window,
+                            @Value("${auth.login-rate-limit.maximum-tracked-clients}") long maximumTrackedClients) {
+        this.maxAttempts = maxAttempts;
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.window = window;
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maximumTrackedClients)
+                .expireAfterWrite(window)
+                .build();
+        this.rateLimitedCounter = Counter.builder("auth.login.rate.limited")
+                .description("Login attempts rejected by the failed login rate limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a login attempt for the given email from the given client address may proceed.
+     *
+     * @param email         the email the client tries to log in with
+     * @param clientAddress the address the attempt comes from
+     * @throws LoginRateLimitExceededException if the email has used up its failed attempts from this address, or
+     *                                         from all addresses together, in the current window
+     */
+    public void checkAllowed(String email, String clientAddress) {
+        if (hasReached(key(email, clientAddress), maxAttempts) || hasReached(key(email), maxAttemptsPerEmail)) {
+            rateLimitedCounter.increment();
+            throw new LoginRateLimitExceededException(window);
+        }
+    }
+
+    /**
+     * Records a failed login attempt for the given email from the given client address.
+     *
+     * @param email         the email the client tried to log in with
+     * @param clientAddress the address the attempt came from
+     */
+    public void recordFailure(String email, String clientAddress) {
+        failures.get(key(email, clientAddress), k -> new AtomicInteger()).incrementAndGet();
+        failures.get(key(email), k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Clears the failed attempts for the given email, from the given client address and across all addresses, after
+     * a successful login.
+     *
+     * @param email         the email the client logged in with
+     * @param clientAddress the address the login came from
+     */
+    public void reset(String email, String clientAddress) {
+        failures.invalidate(key(email, clientAddress));
+        failures.invalidate(key(email));
+    }
+
+    private boolean hasReached(Key key, int limit) {
+        AtomicInteger failed = failures.getIfPresent(key);
+        return failed != null && failed.get() >= limit;
+    }
+
+    private static Key key(String email, String clientAddress) {
+        return new Key(normalize(email), clientAddress == null ? "" : clientAddress);
+    }
+
+    /**
+     * Returns the key of the failures of an email across all client addresses.
+     */
+    private static Key key(String email) {
+        return new Key(normalize(email), null);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String email, String clientAddress) {
+    }
+}
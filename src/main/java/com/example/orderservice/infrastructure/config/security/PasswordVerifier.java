@@ -0,0 +1,103 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.application.exception.PasswordVerificationUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Verifies passwords on a dedicated, bounded pool of worker threads.
+ * <p>
+ * A BCrypt check costs tens of milliseconds of CPU. Running it on a small fixed pool caps the CPU that logins can
+ * take away from other requests, and the bounded queue provides admission control: when it is full, or a check
+ * waits longer than the configured timeout, the login is rejected immediately with
+ * {@link PasswordVerificationUnavailableException} instead of piling up request threads.
+ * <p>
+ * Queue depth and pool usage are published as {@code executor.*} metrics tagged {@code name=password.verification},
+ * the verification time as {@code auth.password.verification} and rejected checks as
+ * {@code auth.password.verification.rejected}.
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer verificationTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerifier(PasswordEncoder encoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.password-verification.threads}") int threads,
+                            @Value("${auth.password-verification.queue-capacity}") int queueCapacity,
+                            @Value("${auth.password-verification.timeout}") Duration timeout) {
+        this.encoder = encoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-verification-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password.verification", Tags.empty()).bindTo(meterRegistry);
+        this.verificationTimer = Timer.builder("auth.password.verification")
+                .description("Time spent verifying a password hash")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.verification.rejected")
+                .description("Password checks rejected because the verification workers were saturated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks a raw password against its encoded hash on the verification pool.
+     *
+     * @param rawPassword     the password supplied by the client
+     * @param encodedPassword the stored password hash
+     * @return {@code true} if the password matches the hash
+     * @throws PasswordVerificationUnavailableException if the pool is saturated or the check timed out
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> verificationTimer.record(() -> encoder.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordVerificationUnavailableException("Password verification is saturated", timeout);
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordVerificationUnavailableException("Password verification timed out", timeout);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordVerificationUnavailableException("Password verification was interrupted", timeout);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password verification failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
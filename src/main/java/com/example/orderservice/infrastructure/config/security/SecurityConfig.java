@@ -1,9 +1,11 @@
 package com.example.orderservice.infrastructure.config.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.ObjectPostProcessor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,6 +15,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.HeaderWriterFilter;
 
 /**
  * Security configuration class for the application.
@@ -51,10 +54,28 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
+                // Write the security headers on the request thread before the handler runs. Written lazily, they
+                // would be written by whichever thread commits the response first, which for a streamed body races
+                // with the request thread.
+                .headers(headers -> headers.withObjectPostProcessor(new ObjectPostProcessor<HeaderWriterFilter>() {
+                    @Override
+                    public <O extends HeaderWriterFilter> O postProcess(O filter) {
+                        filter.setShouldWriteHeadersEagerly(true);
+                        return filter;
+                    }
+                }))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches only resume requests that were already authorized (e.g. streamed bodies)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/login").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("Admin")
+                        // The change feed covers the orders of all customers
+                        .requestMatchers("/orders/changes").hasRole("Admin")
                         .requestMatchers("/orders").hasAnyRole("User", "Admin")
                         .requestMatchers("/orders/**").hasAnyRole("User", "Admin")
+                        .requestMatchers("/reactive/orders").hasAnyRole("User", "Admin")
+                        .requestMatchers("/reactive/orders/**").hasAnyRole("User", "Admin")
                         .anyRequest().authenticated()
                 )
                 // Add the custom JWT authentication filter before the UsernamePasswordAuthenticationFilter
@@ -0,0 +1,30 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Store of per-user token revocations used when principals are trusted from JWT claims.
+ * <p>
+ * Revoking the tokens of a user invalidates every token issued to that user before the revocation,
+ * forcing a new login that picks up the current roles.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Revokes all tokens of the given user issued before the given instant.
+     *
+     * @param userId   the ID of the user whose tokens are revoked
+     * @param instant  tokens issued strictly before this instant are rejected
+     */
+    void revokeTokensIssuedBefore(Long userId, Instant instant);
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param userId   the ID of the user the token was issued to
+     * @param issuedAt the issue time of the token
+     * @return {@code true} if the token was issued before a revocation of the user's tokens
+     */
+    boolean isRevoked(Long userId, Date issuedAt);
+}
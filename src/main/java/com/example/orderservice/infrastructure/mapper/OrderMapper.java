@@ -20,15 +20,35 @@ public interface OrderMapper {
 
     /**
      * Converts an {@link OrderRequestDto} to an {@link Order} entity.
-     * Ignores the {@code id} field and sets the {@code isDeleted} field to {@code false}.
+     * Ignores the {@code id} and {@code version} fields and sets the {@code isDeleted} field to {@code false}.
+     * The item count and total quantity are left for the caller, which derives them from the products.
      *
      * @param orderRequestDto the {@link OrderRequestDto} to convert.
      * @return the converted {@link Order} entity.
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "isDeleted", constant = "false")
+    @Mapping(target = "itemCount", ignore = true)
+    @Mapping(target = "totalQuantity", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Order toEntity(OrderRequestDto orderRequestDto);
 
+    /**
+     * Copies the scalar fields of an {@link OrderRequestDto} onto an existing {@link Order} entity.
+     * Products are left untouched, as they are reconciled item by item by the caller, and so is the version,
+     * which only Hibernate moves.
+     *
+     * @param orderRequestDto the {@link OrderRequestDto} to copy from.
+     * @param order           the {@link Order} entity to update.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isDeleted", ignore = true)
+    @Mapping(target = "products", ignore = true)
+    @Mapping(target = "itemCount", ignore = true)
+    @Mapping(target = "totalQuantity", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(OrderRequestDto orderRequestDto, @MappingTarget Order order);
+
     /**
      * Converts an {@link Order} entity to an {@link OrderResponseDto}.
      *
@@ -37,17 +57,57 @@ public interface OrderMapper {
      */
     OrderResponseDto toDto(Order order);
 
+    /**
+     * Converts an {@link Order} entity to an {@link OrderResponseDto} without its products, which are not read.
+     * The item count and total quantity still describe them.
+     *
+     * @param order the {@link Order} entity to convert.
+     * @return the converted {@link OrderResponseDto} with {@code null} products.
+     */
+    @Mapping(target = "products", ignore = true)
+    OrderResponseDto toDtoWithoutProducts(Order order);
+
     /**
      * Converts a {@link ProductRequestDto} to a {@link Product} entity.
      * Ignores the {@code id} field and sets the {@code isDeleted} field to {@code false}.
+     * The parent order is linked by the caller or by {@link #linkProducts(Order)}.
      *
      * @param productRequestDto the {@link ProductRequestDto} to convert.
      * @return the converted {@link Product} entity.
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "isDeleted", constant = "false")
+    @Mapping(target = "order", ignore = true)
     Product toEntity(ProductRequestDto productRequestDto);
 
+    /**
+     * Copies the fields of a {@link ProductRequestDto} onto an existing {@link Product} entity.
+     *
+     * @param productRequestDto the {@link ProductRequestDto} to copy from.
+     * @param product           the {@link Product} entity to update.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isDeleted", ignore = true)
+    @Mapping(target = "order", ignore = true)
+    void updateEntity(ProductRequestDto productRequestDto, @MappingTarget Product product);
+
+    /**
+     * Converts an {@link Order} entity to an {@link OrderRequestDto} describing its current state,
+     * including the IDs of its products.
+     *
+     * @param order the {@link Order} entity to convert.
+     * @return the converted {@link OrderRequestDto}.
+     */
+    OrderRequestDto toRequestDto(Order order);
+
+    /**
+     * Converts a {@link Product} entity to a {@link ProductRequestDto} describing its current state.
+     *
+     * @param product the {@link Product} entity to convert.
+     * @return the converted {@link ProductRequestDto}.
+     */
+    ProductRequestDto toRequestDto(Product product);
+
     /**
      * Converts a {@link Product} entity to a {@link ProductResponseDto}.
      *
@@ -0,0 +1,52 @@
+package com.example.orderservice.infrastructure.outbox;
+
+import com.example.orderservice.application.outbox.OrderEventPublisher;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link OrderEventPublisher} that appends each change as one line of JSON to a local file.
+ * <p>
+ * A batch is flushed before {@link #publish} returns, so the relay only marks changes as published once they
+ * are written.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.outbox.publisher", havingValue = "file")
+public class FileOrderEventPublisher implements OrderEventPublisher {
+
+    private final Path file;
+    private final ObjectWriter writer;
+
+    public FileOrderEventPublisher(@Value("${orders.outbox.file.path}") Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.writer = objectMapper.writerFor(OrderChangeDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public synchronized void publish(List<OrderChangeDto> changes) {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OrderChangeDto change : changes) {
+                writer.writeValue(out, change);
+                out.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write order changes to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.orderservice.infrastructure.outbox;
+
+import com.example.orderservice.application.outbox.OrderEventPublisher;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link OrderEventPublisher} that keeps the most recently published changes in memory.
+ * Intended for tests and local development; the oldest changes are dropped beyond the capacity.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.outbox.publisher", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryOrderEventPublisher implements OrderEventPublisher {
+
+    private final int capacity;
+    private final Deque<OrderChangeDto> published;
+
+    public InMemoryOrderEventPublisher(@Value("${orders.outbox.in-memory.capacity}") int capacity) {
+        this.capacity = capacity;
+        this.published = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void publish(List<OrderChangeDto> changes) {
+        for (OrderChangeDto change : changes) {
+            if (published.size() == capacity) {
+                published.removeFirst();
+            }
+            published.addLast(change);
+        }
+    }
+
+    /**
+     * Returns the retained changes in the order they were published.
+     *
+     * @return a snapshot of the retained changes.
+     */
+    public synchronized List<OrderChangeDto> getPublished() {
+        return List.copyOf(published);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.CustomerOrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading and incrementally maintaining {@link CustomerOrderSummary} rows.
+ * <p>
+ * Changes are applied as relative increments in the database rather than read-modify-write cycles,
+ * so concurrent transactions touching the same customer cannot lose each other's updates.
+ */
+public interface CustomerOrderSummaryRepository
+        extends JpaRepository<CustomerOrderSummary, CustomerOrderSummary.Key> {
+
+    /**
+     * Finds the summary rows of a customer, one per status the customer has orders in.
+     *
+     * @param customerName the customer whose summary to retrieve.
+     * @return the summary rows of the customer.
+     */
+    List<CustomerOrderSummary> findByCustomerName(String customerName);
+
+    /**
+     * Creates an empty summary row for the customer and status unless one exists already.
+     *
+     * @param customerName the customer of the row.
+     * @param status       the name of the order status of the row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_summary (customer_name, status, order_count, total_price) " +
+            "VALUES (:customerName, :status, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(String customerName, String status);
+
+    /**
+     * Adds the given deltas to an existing summary row; negative deltas remove orders from it.
+     *
+     * @param customerName the customer of the row.
+     * @param status       the name of the order status of the row.
+     * @param orderCount   the change of the number of orders.
+     * @param totalPrice   the change of the summed total price, in minor units.
+     */
+    @Modifying
+    @Query(value = "UPDATE customer_order_summary " +
+            "SET order_count = order_count + :orderCount, total_price = total_price + :totalPrice " +
+            "WHERE customer_name = :customerName AND status = :status", nativeQuery = true)
+    void increment(String customerName, String status, long orderCount, long totalPrice);
+}
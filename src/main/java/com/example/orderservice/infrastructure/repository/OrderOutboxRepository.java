@@ -0,0 +1,54 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for the order outbox, read by the relay and by the change feed.
+ */
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long>, OrderOutboxRepositoryCustom {
+
+    /**
+     * Claims the oldest unpublished events for the current transaction.
+     * <p>
+     * Rows are locked with {@code FOR UPDATE SKIP LOCKED} (lock timeout {@code -2}), so relays of several
+     * instances claim disjoint batches instead of waiting for or publishing each other's events.
+     *
+     * @param limit the maximum number of events to claim.
+     * @return the claimed events, ordered by ID.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OrderOutboxEvent> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    /**
+     * Finds the published events after the given feed sequence number.
+     * <p>
+     * Pending events have no feed sequence number and are never returned.
+     *
+     * @param feedSequence the feed sequence number after which to read.
+     * @param limit        the maximum number of events to return.
+     * @return the events, ordered by feed sequence number.
+     */
+    List<OrderOutboxEvent> findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(long feedSequence, Limit limit);
+
+    /**
+     * Deletes published events that were published before the given instant.
+     *
+     * @param publishedBefore the instant before which published events are deleted.
+     * @return the number of deleted events.
+     */
+    @Modifying
+    @Query("DELETE FROM OrderOutboxEvent e WHERE e.publishedAt < :publishedBefore")
+    int deletePublishedBefore(Instant publishedBefore);
+}
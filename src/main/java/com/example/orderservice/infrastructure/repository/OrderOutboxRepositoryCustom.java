@@ -0,0 +1,42 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Batched writes of {@link OrderOutboxEvent} rows and reservation of their feed sequence numbers.
+ */
+public interface OrderOutboxRepositoryCustom {
+
+    /**
+     * Inserts the events with one batched statement, joining the current transaction.
+     * <p>
+     * IDs are assigned by the database; Hibernate cannot batch inserts of identity-generated entities,
+     * so the rows are written with plain JDBC.
+     *
+     * @param events the events to insert; their IDs are ignored.
+     */
+    void appendAll(List<OrderOutboxEvent> events);
+
+    /**
+     * Reserves the next feed sequence numbers, joining the current transaction.
+     * <p>
+     * The sequence row stays locked until the transaction ends, so other relays wait for it to commit or roll
+     * back. Reserved numbers are therefore committed in ascending order, and a rolled back reservation is reused.
+     *
+     * @param count the number of sequence numbers to reserve.
+     * @return the first reserved sequence number; the others follow it without gaps.
+     */
+    long reserveFeedSequences(int count);
+
+    /**
+     * Marks the events as published with one batched statement, joining the current transaction.
+     *
+     * @param ids               the IDs of the published events, in the order they were published.
+     * @param firstFeedSequence the feed sequence number of the first event; the others get the following ones.
+     * @param publishedAt       when the events were published.
+     */
+    void markPublished(List<Long> ids, long firstFeedSequence, Instant publishedAt);
+}
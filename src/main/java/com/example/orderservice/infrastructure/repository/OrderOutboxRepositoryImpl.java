@@ -0,0 +1,67 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import com.example.orderservice.domain.order.OrderOutboxSequence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * JDBC implementation of {@link OrderOutboxRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepositoryCustom {
+
+    private static final String INSERT_EVENT = "INSERT INTO order_outbox (order_id, change_type, payload, created_at) " +
+            "VALUES (?, ?, ?, ?)";
+    private static final String RESERVE_SEQUENCES = "UPDATE order_outbox_sequence " +
+            "SET last_sequence = last_sequence + ? WHERE id = ?";
+    private static final String INSERT_SEQUENCE = "INSERT INTO order_outbox_sequence (id, last_sequence) VALUES (?, ?)";
+    private static final String SELECT_SEQUENCE = "SELECT last_sequence FROM order_outbox_sequence WHERE id = ?";
+    private static final String MARK_PUBLISHED = "UPDATE order_outbox SET feed_sequence = ?, published_at = ? " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(List<OrderOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (statement, event) -> {
+            statement.setLong(1, event.getOrderId());
+            statement.setString(2, event.getChangeType().name());
+            statement.setString(3, event.getPayload());
+            statement.setObject(4, OffsetDateTime.ofInstant(event.getCreatedAt(), ZoneOffset.UTC));
+        });
+    }
+
+    @Override
+    public long reserveFeedSequences(int count) {
+        // The row is created by Liquibase; schemas generated from the entities start without it
+        if (jdbcTemplate.update(RESERVE_SEQUENCES, count, OrderOutboxSequence.ID) == 0) {
+            jdbcTemplate.update(INSERT_SEQUENCE, OrderOutboxSequence.ID, count);
+        }
+        Long lastSequence = jdbcTemplate.queryForObject(SELECT_SEQUENCE, Long.class, OrderOutboxSequence.ID);
+        return lastSequence - count + 1;
+    }
+
+    @Override
+    public void markPublished(List<Long> ids, long firstFeedSequence, Instant publishedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        OffsetDateTime publishedAtUtc = OffsetDateTime.ofInstant(publishedAt, ZoneOffset.UTC);
+        List<Integer> positions = IntStream.range(0, ids.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED, positions, positions.size(), (statement, position) -> {
+            statement.setLong(1, firstFeedSequence + position);
+            statement.setObject(2, publishedAtUtc);
+            statement.setLong(3, ids.get(position));
+        });
+    }
+}
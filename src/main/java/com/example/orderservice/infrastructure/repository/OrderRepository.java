@@ -1,38 +1,27 @@
 package com.example.orderservice.infrastructure.repository;
 
 import com.example.orderservice.domain.order.Order;
-import com.example.orderservice.domain.order.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for accessing and managing {@link Order} entities in the database.
- * Extends {@link JpaRepository} to provide basic CRUD operations and custom queries.
+ * Extends {@link JpaRepository} to provide basic CRUD operations and custom queries; the filtered ID listings
+ * are built dynamically by {@link OrderRepositoryCustom}.
  */
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     /**
-     * Finds a list of orders based on the specified filters.
-     * The filters include order status, minimum price, and maximum price.
-     * Orders marked as deleted are excluded from the results.
-     *
-     * @param status   the status of the orders to filter by (e.g., PENDING, CONFIRMED, CANCELLED).
-     *                 If {@code null}, the filter is ignored.
-     * @param minPrice the minimum total price of the orders to filter by.
-     *                 If {@code null}, the filter is ignored.
-     * @param maxPrice the maximum total price of the orders to filter by.
-     *                 If {@code null}, the filter is ignored.
-     * @return a list of orders matching the specified filters, excluding deleted orders.
+     * Number of rows the JDBC driver fetches per round-trip when streaming orders.
      */
-    @Query("SELECT o FROM Order o WHERE " +
-            "(o.status = :status OR :status IS NULL) AND " +
-            "(o.totalPrice >= :minPrice OR :minPrice IS NULL) AND " +
-            "(o.totalPrice <= :maxPrice OR :maxPrice IS NULL) AND " +
-            "o.isDeleted = false")
-    List<Order> findOrdersByFilters(OrderStatus status, Double minPrice, Double maxPrice);
+    int STREAM_FETCH_SIZE = 500;
 
     /**
      * Finds an order by its ID, ensuring the order is not marked as deleted.
@@ -44,24 +33,39 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByIdAndNotDeleted(Long id);
 
     /**
-     * Finds a list of orders for a specific customer based on the specified filters.
-     * The filters include customer name, order status, minimum price, and maximum price.
-     * Orders marked as deleted are excluded from the results.
+     * Finds a non-deleted order by its ID together with its products in a single round-trip.
+     * <p>
+     * The order is fully initialized, so it can be mapped without an open transaction.
+     *
+     * @param id the ID of the order to retrieve.
+     * @return an {@link Optional} containing the order if found and not marked as deleted, otherwise empty.
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.products WHERE o.id = :id AND o.isDeleted = false")
+    Optional<Order> findWithProductsByIdAndNotDeleted(Long id);
+
+    /**
+     * Loads the orders with the given IDs together with their products in a single round-trip.
+     * <p>
+     * Used by the listing paths after the page (or chunk) of IDs has been resolved, so the products of
+     * every order are fetched by one join instead of one lazy SELECT per order.
+     *
+     * @param ids the IDs of the orders to load.
+     * @return the orders with initialized product collections, ordered by ID.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.products WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllWithProductsByIdIn(Collection<Long> ids);
+
+    /**
+     * Loads the orders with the given IDs without their products in a single round-trip.
+     * <p>
+     * Used by listings requested without products; the item count and total quantity of each order are read
+     * from its own row, so the {@code products} table is not touched.
      *
-     * @param customerName the name of the customer whose orders are to be retrieved.
-     * @param status       the status of the orders to filter by (e.g., PENDING, CONFIRMED, CANCELLED).
-     *                     If {@code null}, the filter is ignored.
-     * @param minPrice     the minimum total price of the orders to filter by.
-     *                     If {@code null}, the filter is ignored.
-     * @param maxPrice     the maximum total price of the orders to filter by.
-     *                     If {@code null}, the filter is ignored.
-     * @return a list of orders matching the specified filters, associated with the given customer, excluding deleted orders.
+     * @param ids the IDs of the orders to load.
+     * @return the orders with uninitialized product collections, ordered by ID.
      */
-    @Query("SELECT o FROM Order o WHERE " +
-            "(o.customerName = :customerName) AND " +
-            "(o.status = :status OR :status IS NULL) AND " +
-            "(o.totalPrice >= :minPrice OR :minPrice IS NULL) AND " +
-            "(o.totalPrice <= :maxPrice OR :maxPrice IS NULL) AND " +
-            "o.isDeleted = false")
-    List<Order> findOrdersByFiltersForUser(String customerName, OrderStatus status, Double minPrice, Double maxPrice);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids ORDER BY o.id")
+    List<Order> findAllByIdIn(Collection<Long> ids);
 }
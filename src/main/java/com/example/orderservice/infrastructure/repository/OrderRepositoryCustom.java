@@ -0,0 +1,49 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom queries of {@link OrderRepository} built with the Criteria API, so only the filters that are
+ * actually supplied end up in the generated SQL.
+ *
+ * @see OrderSpecifications
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Finds the IDs of a page of orders matching the specification, using keyset pagination on the order ID.
+     *
+     * @param specification the filters to apply (see {@link OrderSpecifications#byFilters}).
+     * @param afterId       only orders with an ID strictly greater than this value are returned.
+     * @param limit         the maximum number of orders to return.
+     * @return the IDs of the matching orders in ascending order.
+     */
+    List<Long> findOrderIds(Specification<Order> specification, long afterId, int limit);
+
+    /**
+     * Streams the IDs of all orders matching the specification in ascending order.
+     * Rows are read through a server-side cursor, so the caller must consume the stream
+     * inside a transaction and close it afterwards.
+     *
+     * @param specification the filters to apply (see {@link OrderSpecifications#byFilters}).
+     * @return a stream of the IDs of the matching orders.
+     */
+    Stream<Long> streamOrderIds(Specification<Order> specification);
+
+    /**
+     * Aggregates the orders matching the specification by status, and optionally by customer, in the database.
+     * <p>
+     * Order counts and total price statistics are grouped over the orders, quantity statistics over the joined
+     * product lines; no entities are loaded.
+     *
+     * @param specification the filters to apply (see {@link OrderSpecifications#byFilters}).
+     * @param byCustomer    whether to group by customer in addition to status.
+     * @return one {@link OrderStatsDto} per group, ordered by status and customer.
+     */
+    List<OrderStatsDto> aggregateStats(Specification<Order> specification, boolean byCustomer);
+}
@@ -0,0 +1,156 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.domain.product.Product;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link OrderRepositoryCustom}.
+ */
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findOrderIds(Specification<Order> specification, long afterId, int limit) {
+        return createIdQuery(specification, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Long> streamOrderIds(Specification<Order> specification) {
+        return createIdQuery(specification, 0L)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, OrderRepository.STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<OrderStatsDto> aggregateStats(Specification<Order> specification, boolean byCustomer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> orderQuery = cb.createTupleQuery();
+        Root<Order> order = orderQuery.from(Order.class);
+        Path<Long> totalPrice = order.get("totalPrice");
+        List<Expression<?>> orderGroup = groupBy(order, byCustomer);
+        List<Selection<?>> orderSelection = new ArrayList<>(orderGroup);
+        orderSelection.addAll(List.of(cb.count(order), cb.sum(totalPrice), cb.avg(totalPrice),
+                cb.min(totalPrice), cb.max(totalPrice)));
+        applyFilters(cb, orderQuery, order, specification);
+        orderQuery.multiselect(orderSelection).groupBy(orderGroup).orderBy(orderGroup.stream().map(cb::asc).toList());
+
+        CriteriaQuery<Tuple> productQuery = cb.createTupleQuery();
+        Root<Order> productOrder = productQuery.from(Order.class);
+        Join<Order, Product> product = productOrder.join("products");
+        Path<Integer> quantity = product.get("quantity");
+        List<Expression<?>> productGroup = groupBy(productOrder, byCustomer);
+        List<Selection<?>> productSelection = new ArrayList<>(productGroup);
+        productSelection.addAll(List.of(cb.count(product), cb.sumAsLong(quantity), cb.avg(quantity),
+                cb.min(quantity), cb.max(quantity)));
+        applyFilters(cb, productQuery, productOrder, specification);
+        productQuery.multiselect(productSelection).groupBy(productGroup);
+
+        int keySize = orderGroup.size();
+        Map<List<Object>, OrderStatsDto> stats = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(orderQuery).getResultList()) {
+            OrderStatsDto dto = new OrderStatsDto();
+            dto.setStatus(row.get(0, OrderStatus.class).name());
+            dto.setCustomerName(byCustomer ? row.get(1, String.class) : null);
+            dto.setOrderCount(row.get(keySize, Long.class));
+            dto.setTotalPriceSum(row.get(keySize + 1, Long.class));
+            dto.setTotalPriceAvg(roundToMinorUnit(row.get(keySize + 2, Double.class)));
+            dto.setTotalPriceMin(row.get(keySize + 3, Long.class));
+            dto.setTotalPriceMax(row.get(keySize + 4, Long.class));
+            stats.put(groupKey(row, keySize), dto);
+        }
+        for (Tuple row : entityManager.createQuery(productQuery).getResultList()) {
+            OrderStatsDto dto = stats.get(groupKey(row, keySize));
+            if (dto == null) {
+                continue;
+            }
+            dto.setProductCount(row.get(keySize, Long.class));
+            dto.setQuantitySum(row.get(keySize + 1, Long.class));
+            dto.setQuantityAvg(row.get(keySize + 2, Double.class));
+            dto.setQuantityMin(row.get(keySize + 3, Integer.class));
+            dto.setQuantityMax(row.get(keySize + 4, Integer.class));
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    /**
+     * Returns the grouping columns of the statistics: the status, followed by the customer if requested.
+     */
+    private static List<Expression<?>> groupBy(Root<Order> root, boolean byCustomer) {
+        return byCustomer
+                ? List.of(root.get("status"), root.get("customerName"))
+                : List.of(root.get("status"));
+    }
+
+    private static List<Object> groupKey(Tuple row, int keySize) {
+        List<Object> key = new ArrayList<>(keySize);
+        for (int i = 0; i < keySize; i++) {
+            key.add(row.get(i));
+        }
+        return key;
+    }
+
+    private static Long roundToMinorUnit(Double value) {
+        return value == null ? null : Math.round(value);
+    }
+
+    private static void applyFilters(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Order> root,
+                                     Specification<Order> specification) {
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * Builds a query selecting the IDs of the orders matching the specification, ordered by ID.
+     *
+     * @param specification the filters to apply.
+     * @param afterId       only orders with an ID strictly greater than this value are selected;
+     *                      {@code 0} selects all orders.
+     * @return the typed query.
+     */
+    private TypedQuery<Long> createIdQuery(Specification<Order> specification, long afterId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Order> root = query.from(Order.class);
+        Path<Long> id = root.get("id");
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (afterId > 0) {
+            Predicate afterIdPredicate = cb.greaterThan(id, afterId);
+            predicate = predicate == null ? afterIdPredicate : cb.and(predicate, afterIdPredicate);
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(id).orderBy(cb.asc(id));
+        return entityManager.createQuery(query);
+    }
+}
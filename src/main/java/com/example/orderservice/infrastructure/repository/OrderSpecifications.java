@@ -0,0 +1,86 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Factory methods for {@link Specification}s used to filter {@link Order} entities.
+ * <p>
+ * Filters are only added for the criteria actually supplied, so every combination of filters results in
+ * its own plain SQL statement that the database can serve from an index, instead of one statement full of
+ * {@code (column = ? OR ? IS NULL)} conditions.
+ */
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching non-deleted orders for the given filters.
+     *
+     * @param customerName the customer whose orders are matched. If {@code null}, orders of all customers match.
+     * @param status       the status of the orders to match. If {@code null}, the filter is ignored.
+     * @param minPrice     the minimum total price of the orders to match, in minor units. If {@code null}, the
+     *                     filter is ignored.
+     * @param maxPrice     the maximum total price of the orders to match, in minor units. If {@code null}, the
+     *                     filter is ignored.
+     * @return the combined specification.
+     */
+    public static Specification<Order> byFilters(String customerName, OrderStatus status,
+                                                 Long minPrice, Long maxPrice) {
+        Specification<Order> specification = notDeleted();
+        if (customerName != null) {
+            specification = specification.and(hasCustomerName(customerName));
+        }
+        if (status != null) {
+            specification = specification.and(hasStatus(status));
+        }
+        if (minPrice != null) {
+            specification = specification.and(hasTotalPriceAtLeast(minPrice));
+        }
+        if (maxPrice != null) {
+            specification = specification.and(hasTotalPriceAtMost(maxPrice));
+        }
+        return specification;
+    }
+
+    /**
+     * @return a specification matching orders that are not marked as deleted.
+     */
+    public static Specification<Order> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("isDeleted"));
+    }
+
+    /**
+     * @param customerName the customer whose orders are matched.
+     * @return a specification matching the orders of the given customer.
+     */
+    public static Specification<Order> hasCustomerName(String customerName) {
+        return (root, query, cb) -> cb.equal(root.get("customerName"), customerName);
+    }
+
+    /**
+     * @param status the status of the orders to match.
+     * @return a specification matching orders with the given status.
+     */
+    public static Specification<Order> hasStatus(OrderStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * @param minPrice the minimum total price in minor units, inclusive.
+     * @return a specification matching orders with a total price of at least {@code minPrice}.
+     */
+    public static Specification<Order> hasTotalPriceAtLeast(Long minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalPrice"), minPrice);
+    }
+
+    /**
+     * @param maxPrice the maximum total price in minor units, inclusive.
+     * @return a specification matching orders with a total price of at most {@code maxPrice}.
+     */
+    public static Specification<Order> hasTotalPriceAtMost(Long maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalPrice"), maxPrice);
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.orderservice.infrastructure.repository.reactive;
+
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.infrastructure.repository.OrderRepository;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.product.ProductResponseDto;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking, read-only access to orders over R2DBC.
+ * <p>
+ * Reads the same {@code orders} and {@code products} tables as {@link OrderRepository} and maps the rows
+ * straight to {@link OrderResponseDto}. Each order is selected together with its products by one join;
+ * the joined rows arrive ordered by order ID and are folded into one DTO per order as they stream in, so
+ * downstream demand is propagated to the database cursor. Only the supplied filters end up in the
+ * {@code WHERE} clause, like the JPA listing queries.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.reactive.enabled", havingValue = "true")
+public class ReactiveOrderRepository {
+
+    private static final String SELECT_ORDERS =
+            "SELECT id, customer_name, status, total_price, item_count, total_quantity, version FROM orders ";
+
+    private static final String ORDERS_WITH_PRODUCTS = "SELECT o.id, o.customer_name, o.status, o.total_price, " +
+            "o.item_count, o.total_quantity, o.version, p.id AS product_id, p.name AS product_name, " +
+            "p.price AS product_price, p.quantity AS product_quantity " +
+            "FROM (%s) o LEFT JOIN products p ON p.order_id = o.id " +
+            "ORDER BY o.id, p.id";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a page of non-deleted orders matching the filters, ordered by ascending ID.
+     *
+     * @param customerName the customer whose orders are selected; {@code null} selects all customers.
+     * @param status       the status filter, may be {@code null}.
+     * @param minPrice     the minimum total price filter in minor units, may be {@code null}.
+     * @param maxPrice     the maximum total price filter in minor units, may be {@code null}.
+     * @param afterId      only orders with an ID strictly greater than this value are selected;
+     *                     {@code 0} selects all orders.
+     * @param limit        the maximum number of orders to return.
+     * @return the matching orders with their products.
+     */
+    public Flux<OrderResponseDto> findOrders(String customerName, OrderStatus status, Long minPrice,
+                                             Long maxPrice, long afterId, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(customerName, status, minPrice, maxPrice, afterId, parameters);
+        parameters.put("limit", limit);
+        String orders = SELECT_ORDERS + where + " ORDER BY id LIMIT :limit";
+        return query(String.format(ORDERS_WITH_PRODUCTS, orders), parameters);
+    }
+
+    /**
+     * Streams every non-deleted order matching the filters, ordered by ascending ID.
+     * <p>
+     * Rows are fetched from the database cursor in chunks of {@link OrderRepository#STREAM_FETCH_SIZE} as
+     * the subscriber requests more orders, so memory usage does not depend on the size of the result.
+     *
+     * @param customerName the customer whose orders are selected; {@code null} selects all customers.
+     * @param status       the status filter, may be {@code null}.
+     * @param minPrice     the minimum total price filter in minor units, may be {@code null}.
+     * @param maxPrice     the maximum total price filter in minor units, may be {@code null}.
+     * @return the matching orders with their products.
+     */
+    public Flux<OrderResponseDto> streamOrders(String customerName, OrderStatus status,
+                                               Long minPrice, Long maxPrice) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String orders = SELECT_ORDERS + where(customerName, status, minPrice, maxPrice, 0L, parameters);
+        return query(String.format(ORDERS_WITH_PRODUCTS, orders), parameters);
+    }
+
+    /**
+     * Finds a non-deleted order by its ID together with its products.
+     *
+     * @param id the ID of the order to retrieve.
+     * @return the order, or an empty {@link Mono} if it does not exist or is marked as deleted.
+     */
+    public Mono<OrderResponseDto> findById(Long id) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("id", id);
+        String order = SELECT_ORDERS + "WHERE id = :id AND is_deleted = false";
+        return query(String.format(ORDERS_WITH_PRODUCTS, order), parameters).next();
+    }
+
+    /**
+     * Builds the {@code WHERE} clause of the order selection from the supplied filters only.
+     *
+     * @param parameters the map receiving the bind values of the clause.
+     * @return the {@code WHERE} clause.
+     */
+    private String where(String customerName, OrderStatus status, Long minPrice, Long maxPrice,
+                         long afterId, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add("is_deleted = false");
+        if (customerName != null) {
+            conditions.add("customer_name = :customerName");
+            parameters.put("customerName", customerName);
+        }
+        if (status != null) {
+            conditions.add("status = :status");
+            parameters.put("status", status.name());
+        }
+        if (minPrice != null) {
+            conditions.add("total_price >= :minPrice");
+            parameters.put("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            conditions.add("total_price <= :maxPrice");
+            parameters.put("maxPrice", maxPrice);
+        }
+        if (afterId > 0) {
+            conditions.add("id > :afterId");
+            parameters.put("afterId", afterId);
+        }
+        return "WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Runs a query joining orders with their products and folds consecutive rows of the same order into
+     * one {@link OrderResponseDto}.
+     *
+     * @param sql        the query, ordered by order ID.
+     * @param parameters the bind values of the query.
+     * @return the mapped orders.
+     */
+    private Flux<OrderResponseDto> query(String sql, Map<String, Object> parameters) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .filter(statement -> statement.fetchSize(OrderRepository.STREAM_FETCH_SIZE));
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec.map(ReactiveOrderRepository::toRow)
+                .all()
+                .bufferUntilChanged(OrderRow::orderId)
+                .map(ReactiveOrderRepository::toDto);
+    }
+
+    private static OrderRow toRow(Readable row) {
+        Long productId = row.get("product_id", Long.class);
+        ProductResponseDto product = productId == null ? null : new ProductResponseDto(
+                productId,
+                row.get("product_name", String.class),
+                row.get("product_price", Long.class),
+                row.get("product_quantity", Integer.class));
+        return new OrderRow(
+                row.get("id", Long.class),
+                row.get("customer_name", String.class),
+                row.get("status", String.class),
+                row.get("total_price", Long.class),
+                row.get("item_count", Integer.class),
+                row.get("total_quantity", Long.class),
+                row.get("version", Long.class),
+                product);
+    }
+
+    private static OrderResponseDto toDto(List<OrderRow> rows) {
+        OrderRow first = rows.get(0);
+        List<ProductResponseDto> products = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            if (row.product() != null) {
+                products.add(row.product());
+            }
+        }
+        return new OrderResponseDto(first.orderId(), first.customerName(), first.status(),
+                first.totalPrice(), first.itemCount(), first.totalQuantity(), products, first.version());
+    }
+
+    /**
+     * One row of the join between an order and one of its products; {@code product} is {@code null} for
+     * an order without products.
+     */
+    private record OrderRow(Long orderId, String customerName, String status, Long totalPrice, Integer itemCount,
+                            Long totalQuantity, Long version, ProductResponseDto product) {
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.orderservice.infrastructure.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response wrapper that gzip-compresses the body once it reaches the minimum size.
+ * <p>
+ * The body is buffered until it either exceeds the minimum size, and is then compressed if its content type is
+ * eligible, or is complete, and is then sent as is. Flushes before that point are deferred, so small bodies are
+ * never compressed and streamed bodies are compressed from their first bytes on. A strong {@code ETag} of a
+ * compressed body gets the {@link ResponseCompressionFilter#GZIP_ETAG_SUFFIX}, as the compressed bytes are a
+ * different representation.
+ * <p>
+ * A body written by another thread, such as a {@code StreamingResponseBody}, stays buffered until the request thread
+ * has left the filter chain ({@link #releaseToAsyncWriter()}), so the compression headers are never changed while
+ * the request thread may still change headers of the same response.
+ * <p>
+ * A body written with non-blocking I/O is sent as is: setting a {@link WriteListener} hands the stream over to the
+ * wrapped response, as the deflater cannot report readiness without blocking.
+ */
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final int minResponseSize;
+    private final Set<MimeType> mimeTypes;
+    private final int level;
+    private final boolean suffixNotModifiedETag;
+    private final Thread requestThread = Thread.currentThread();
+
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private OutputStream target;
+    private GZIPOutputStream gzip;
+    private long contentLength = -1;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean releasedToAsyncWriter;
+
+    /**
+     * @param response              the response to wrap.
+     * @param minResponseSize       the size in bytes from which bodies are compressed.
+     * @param mimeTypes             the content types of bodies that may be compressed.
+     * @param level                 the deflate compression level, from 1 (fastest) to 9 (smallest).
+     * @param suffixNotModifiedETag whether the {@code ETag} of a 304 response gets the gzip suffix, because the
+     *                              client validated a compressed representation.
+     */
+    CompressingResponseWrapper(HttpServletResponse response, int minResponseSize, Set<MimeType> mimeTypes,
+                               int level, boolean suffixNotModifiedETag) {
+        super(response);
+        this.minResponseSize = minResponseSize;
+        this.mimeTypes = mimeTypes;
+        this.level = level;
+        this.suffixNotModifiedETag = suffixNotModifiedETag;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (target == null) {
+            contentLength = len;
+        } else if (gzip == null) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void flushBuffer() throws IOException {
+        if (target != null) {
+            flush();
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (target == null) {
+            buffer.reset();
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (target == null) {
+            buffer.reset();
+            contentLength = -1;
+        }
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discardBuffer();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        discardBuffer();
+        super.sendError(sc);
+    }
+
+    /**
+     * Completes the body: sends a buffered body as is, or writes the gzip trailer of a compressed one.
+     *
+     * @throws IOException if the body cannot be written.
+     */
+    synchronized void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (target == null) {
+            if (getStatus() == HttpServletResponse.SC_NOT_MODIFIED && suffixNotModifiedETag) {
+                addETagSuffix();
+            }
+            // A body written by another thread may have reached the minimum size before it could be started
+            startBody(buffer.size() >= minResponseSize);
+        }
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    /**
+     * Lets threads other than the request thread start the body, once the request thread has left the filter chain
+     * of an asynchronous request and no longer changes the response's headers.
+     */
+    synchronized void releaseToAsyncWriter() {
+        releasedToAsyncWriter = true;
+    }
+
+    private synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        if (target == null) {
+            if (buffer.size() + length < minResponseSize || !mayStartBody()) {
+                buffer.write(bytes, offset, length);
+                return;
+            }
+            startBody(true);
+        }
+        target.write(bytes, offset, length);
+    }
+
+    private synchronized void flush() throws IOException {
+        // Deferred while buffering: the converters flush after every body, however small
+        if (target != null) {
+            target.flush();
+        }
+    }
+
+    private boolean mayStartBody() {
+        return releasedToAsyncWriter || Thread.currentThread() == requestThread;
+    }
+
+    /**
+     * Decides how the body is sent and writes what was buffered so far.
+     *
+     * @param minSizeReached whether the body reached the minimum size for compression.
+     */
+    private void startBody(boolean minSizeReached) throws IOException {
+        boolean eligible = isEligible();
+        if (eligible) {
+            super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        OutputStream out = super.getOutputStream();
+        if (minSizeReached && eligible) {
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, ResponseCompressionFilter.GZIP);
+            addETagSuffix();
+            gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            target = gzip;
+        } else {
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            } else if (buffer.size() > 0) {
+                super.setContentLengthLong(buffer.size());
+            }
+            target = out;
+        }
+        buffer.writeTo(target);
+        buffer = null;
+    }
+
+    private boolean isEligible() {
+        int status = getStatus();
+        if (status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED
+                || status == HttpServletResponse.SC_PARTIAL_CONTENT
+                || containsHeader(HttpHeaders.CONTENT_ENCODING) || getContentType() == null) {
+            return false;
+        }
+        MimeType contentType = MimeType.valueOf(getContentType());
+        return mimeTypes.stream().anyMatch(mimeType -> mimeType.equalsTypeAndSubtype(contentType));
+    }
+
+    private void addETagSuffix() {
+        String eTag = getHeader(HttpHeaders.ETAG);
+        if (eTag != null && eTag.startsWith("\"") && eTag.endsWith("\"") && eTag.length() > 1) {
+            super.setHeader(HttpHeaders.ETAG,
+                    eTag.substring(0, eTag.length() - 1) + ResponseCompressionFilter.GZIP_ETAG_SUFFIX + "\"");
+        }
+    }
+
+    /**
+     * Switches the body to the wrapped response's stream for non-blocking writes, sending it uncompressed.
+     *
+     * @return the wrapped response's stream.
+     * @throws IllegalStateException if the body is already being compressed.
+     */
+    private synchronized ServletOutputStream startNonBlockingBody() throws IOException {
+        if (gzip != null) {
+            throw new IllegalStateException("Non-blocking writes cannot start after compression has started");
+        }
+        ServletOutputStream out = super.getOutputStream();
+        if (target == null) {
+            if (contentLength >= 0) {
+                super.setContentLengthLong(contentLength);
+            }
+            buffer.writeTo(out);
+            buffer = null;
+            target = out;
+        }
+        return out;
+    }
+
+    /**
+     * Drops a buffered body before an error response, whose body the container writes to the wrapped response.
+     */
+    private void discardBuffer() throws IOException {
+        if (target == null) {
+            buffer = null;
+            target = super.getOutputStream();
+        }
+    }
+
+    private class CompressingOutputStream extends ServletOutputStream {
+
+        private ServletOutputStream nonBlocking;
+
+        @Override
+        public void write(int b) throws IOException {
+            CompressingResponseWrapper.this.write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            CompressingResponseWrapper.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            CompressingResponseWrapper.this.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return nonBlocking == null || nonBlocking.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                nonBlocking = startNonBlockingBody();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            nonBlocking.setWriteListener(writeListener);
+        }
+    }
+}
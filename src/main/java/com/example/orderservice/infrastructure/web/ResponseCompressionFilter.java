@@ -0,0 +1,168 @@
+package com.example.orderservice.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Negotiates gzip compression of response bodies with clients that accept it.
+ * <p>
+ * This replaces the container's compression ({@code server.compression}), which Tomcat skips for every response
+ * carrying a strong {@code ETag}, i.e. for all order responses. Compressed bodies keep a strong {@code ETag} with
+ * {@link #GZIP_ETAG_SUFFIX} appended; the suffix is removed again from {@code If-None-Match} and {@code If-Match}
+ * headers, so validators of compressed and uncompressed representations both match the resource.
+ * <p>
+ * Asynchronous responses, such as streamed orders, are completed on the last dispatch of the request. Their
+ * compression is decided only after the request thread has left the filter chain, so the response's headers are
+ * never changed from two threads at once.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "orders.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    static final String GZIP = "gzip";
+
+    /**
+     * Suffix of the entity tags of gzip-compressed representations, within the quotes.
+     */
+    static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private static final String WRAPPER_ATTRIBUTE = ResponseCompressionFilter.class.getName() + ".WRAPPER";
+
+    private final int minResponseSize;
+    private final Set<MimeType> mimeTypes;
+    private final int level;
+
+    public ResponseCompressionFilter(@Value("${orders.compression.min-response-size}") DataSize minResponseSize,
+                                     @Value("${orders.compression.mime-types}") List<String> mimeTypes,
+                                     @Value("${orders.compression.level}") int level) {
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.mimeTypes = mimeTypes.stream().map(MimeType::valueOf).collect(Collectors.toUnmodifiableSet());
+        this.level = level;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompressingResponseWrapper wrapper = (CompressingResponseWrapper) request.getAttribute(WRAPPER_ATTRIBUTE);
+        boolean asyncDispatch = isAsyncDispatch(request);
+        if (wrapper == null && !asyncDispatch && acceptsGzip(request)) {
+            wrapper = new CompressingResponseWrapper(response, minResponseSize, mimeTypes, level,
+                    hasGzipETag(request, HttpHeaders.IF_NONE_MATCH));
+            request.setAttribute(WRAPPER_ATTRIBUTE, wrapper);
+        }
+        HttpServletRequest validatedRequest = asyncDispatch ? request : new GzipETagStrippingRequest(request);
+
+        filterChain.doFilter(validatedRequest, wrapper != null && !asyncDispatch ? wrapper : response);
+
+        if (wrapper == null) {
+            return;
+        }
+        if (!isAsyncStarted(request)) {
+            wrapper.finish();
+        } else if (!asyncDispatch) {
+            wrapper.releaseToAsyncWriter();
+        }
+    }
+
+    /**
+     * Checks whether the client accepts gzip, i.e. lists {@code gzip} or {@code *} with a non-zero quality.
+     *
+     * @param request the request.
+     * @return whether the response may be gzip-compressed.
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            boolean accepted = parts.length < 2 || !isZeroQuality(parts[1]);
+            if (name.equals(GZIP) || name.equals("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String parameter) {
+        String[] nameAndValue = parameter.split("=", 2);
+        if (nameAndValue.length < 2 || !nameAndValue[0].trim().equalsIgnoreCase("q")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(nameAndValue[1].trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasGzipETag(HttpServletRequest request, String header) {
+        String value = request.getHeader(header);
+        return value != null && value.contains(GZIP_ETAG_SUFFIX + "\"");
+    }
+
+    /**
+     * Presents {@code If-None-Match} and {@code If-Match} with the gzip suffix removed from their entity tags.
+     */
+    private static class GzipETagStrippingRequest extends HttpServletRequestWrapper {
+
+        GzipETagStrippingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return isValidator(name) ? strip(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!isValidator(name)) {
+                return super.getHeaders(name);
+            }
+            List<String> values = Collections.list(super.getHeaders(name));
+            values.replaceAll(GzipETagStrippingRequest::strip);
+            return Collections.enumeration(values);
+        }
+
+        private static boolean isValidator(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MATCH.equalsIgnoreCase(name);
+        }
+
+        private static String strip(String value) {
+            return value == null ? null : value.replace(GZIP_ETAG_SUFFIX + "\"", "\"");
+        }
+    }
+}
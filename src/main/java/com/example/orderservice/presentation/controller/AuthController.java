@@ -3,6 +3,7 @@ package com.example.orderservice.presentation.controller;
 import com.example.orderservice.application.service.AuthService;
 import com.example.orderservice.presentation.dto.auth.AuthenticateDto;
 import com.example.orderservice.presentation.dto.auth.AuthenticateResponseDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +18,8 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<AuthenticateResponseDto> login(@Valid @RequestBody AuthenticateDto authenticateDto) {
-        return ResponseEntity.ok(authService.login(authenticateDto));
+    public ResponseEntity<AuthenticateResponseDto> login(@Valid @RequestBody AuthenticateDto authenticateDto,
+                                                         HttpServletRequest request) {
+        return ResponseEntity.ok(authService.login(authenticateDto, request.getRemoteAddr()));
     }
 }
@@ -1,22 +1,49 @@
 package com.example.orderservice.presentation.controller;
 
+import com.example.orderservice.application.exception.InvalidRequestException;
 import com.example.orderservice.application.service.OrderService;
+import com.example.orderservice.domain.money.Money;
 import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
 import com.example.orderservice.presentation.dto.order.OrderRequestDto;
 import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
 @RestController
@@ -24,7 +51,35 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    /**
+     * Media type of JSON Merge Patch documents (RFC 7386).
+     */
+    public static final String APPLICATION_MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Media type of a sequence of concatenated CBOR items (RFC 8742), the binary counterpart of NDJSON.
+     */
+    public static final String APPLICATION_CBOR_SEQ_VALUE = "application/cbor-seq";
+
+    /**
+     * Suffix of the entity tags of CBOR representations, within the quotes. CBOR and JSON bodies of the same state
+     * differ byte for byte, so under strong comparison they need different tags.
+     */
+    static final String CBOR_ETAG_SUFFIX = "-cbor";
+
+    /**
+     * Version no order has, used for {@code If-Match} headers that cannot match any order version.
+     */
+    private static final Long UNMATCHABLE_VERSION = -1L;
+
+    /**
+     * Number of bytes of the SHA-256 hash used as the entity tag of a page of orders.
+     */
+    private static final int ETAG_HASH_BYTES = 16;
+
     private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
 
     @PostMapping
     public ResponseEntity<OrderResponseDto> createOrder(@Valid @RequestBody OrderRequestDto orderRequest) {
@@ -32,31 +87,297 @@ public class OrderController {
         return ResponseEntity.ok(createdOrder);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<OrderBatchResponseDto> createOrders(@RequestBody List<OrderRequestDto> orderRequests) {
+        OrderBatchResponseDto result = orderService.createOrders(orderRequests);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{orderId}")
-    public ResponseEntity<OrderResponseDto> updateOrder(@PathVariable Long orderId,
-                                                        @Valid @RequestBody OrderRequestDto orderRequest) {
-        OrderResponseDto updatedOrder = orderService.updateOrder(orderId, orderRequest);
-        return ResponseEntity.ok(updatedOrder);
+    public ResponseEntity<OrderResponseDto> updateOrder(
+            @PathVariable Long orderId,
+            @Valid @RequestBody OrderRequestDto orderRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderResponseDto updatedOrder = orderService.updateOrder(orderId, orderRequest, toExpectedVersion(ifMatch));
+        return withETag(updatedOrder, String.valueOf(updatedOrder.getVersion()), "");
+    }
+
+    @PutMapping(value = "/{orderId}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<OrderResponseDto> updateOrderAsCbor(
+            @PathVariable Long orderId,
+            @Valid @RequestBody OrderRequestDto orderRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderResponseDto updatedOrder = orderService.updateOrder(orderId, orderRequest, toExpectedVersion(ifMatch));
+        return withETag(updatedOrder, String.valueOf(updatedOrder.getVersion()), CBOR_ETAG_SUFFIX);
+    }
+
+    @PatchMapping(value = "/{orderId}", consumes = APPLICATION_MERGE_PATCH_JSON_VALUE)
+    public ResponseEntity<OrderResponseDto> patchOrder(
+            @PathVariable Long orderId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderResponseDto patchedOrder = orderService.patchOrder(orderId, patch, toExpectedVersion(ifMatch));
+        return withETag(patchedOrder, String.valueOf(patchedOrder.getVersion()), "");
+    }
+
+    @PatchMapping(value = "/{orderId}", consumes = APPLICATION_MERGE_PATCH_JSON_VALUE,
+            produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<OrderResponseDto> patchOrderAsCbor(
+            @PathVariable Long orderId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderResponseDto patchedOrder = orderService.patchOrder(orderId, patch, toExpectedVersion(ifMatch));
+        return withETag(patchedOrder, String.valueOf(patchedOrder.getVersion()), CBOR_ETAG_SUFFIX);
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderResponseDto>> getOrders(
+    public ResponseEntity<OrderPageResponseDto> getOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "true") boolean includeProducts) {
+        return getOrders(status, minPrice, maxPrice, cursor, limit, includeProducts, "");
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<OrderPageResponseDto> getOrdersAsCbor(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "true") boolean includeProducts) {
+        return getOrders(status, minPrice, maxPrice, cursor, limit, includeProducts, CBOR_ETAG_SUFFIX);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "true") boolean includeProducts) {
+        return streamOrders(status, minPrice, maxPrice, includeProducts, objectMapper, MediaType.APPLICATION_NDJSON,
+                '\n');
+    }
+
+    @GetMapping(produces = APPLICATION_CBOR_SEQ_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrdersAsCbor(
             @RequestParam(required = false) OrderStatus status,
-            @RequestParam(required = false) Double minPrice,
-            @RequestParam(required = false) Double maxPrice) {
-        List<OrderResponseDto> orders = orderService.getOrders(status, minPrice, maxPrice);
-        return ResponseEntity.ok(orders);
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "true") boolean includeProducts) {
+        // CBOR items are self-delimiting, so a sequence is the items back to back
+        return streamOrders(status, minPrice, maxPrice, includeProducts, cborConverter.getObjectMapper(),
+                MediaType.parseMediaType(APPLICATION_CBOR_SEQ_VALUE), null);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<OrderStatsDto>> getOrderStats(
+            @RequestParam(defaultValue = "false") boolean byCustomer) {
+        List<OrderStatsDto> stats = orderService.getOrderStats(byCustomer);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<CustomerOrderSummaryDto> getCustomerSummary(
+            @RequestParam(required = false) String customerName) {
+        CustomerOrderSummaryDto summary = orderService.getCustomerSummary(customerName);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<OrderChangeFeedDto> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                         @RequestParam(required = false) Integer limit) {
+        OrderChangeFeedDto changes = orderService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
     }
 
     @GetMapping("/{orderId}")
     public ResponseEntity<OrderResponseDto> getOrderById(@PathVariable Long orderId) {
         OrderResponseDto order = orderService.getOrderById(orderId);
-        return ResponseEntity.ok(order);
+        return withETag(order, String.valueOf(order.getVersion()), "");
+    }
+
+    @GetMapping(value = "/{orderId}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<OrderResponseDto> getOrderByIdAsCbor(@PathVariable Long orderId) {
+        OrderResponseDto order = orderService.getOrderById(orderId);
+        return withETag(order, String.valueOf(order.getVersion()), CBOR_ETAG_SUFFIX);
     }
 
     @DeleteMapping("/{orderId}")
-    public ResponseEntity<Void> deleteOrder(@PathVariable Long orderId) {
-        orderService.deleteOrder(orderId);
+    public ResponseEntity<Void> deleteOrder(
+            @PathVariable Long orderId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        orderService.deleteOrder(orderId, toExpectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Loads a page of orders and tags it for the representation it is sent in.
+     *
+     * @param status               the status filter; may be {@code null}.
+     * @param minPrice             the minimum total price in major units; may be {@code null}.
+     * @param maxPrice             the maximum total price in major units; may be {@code null}.
+     * @param cursor               the continuation token of the previous page; may be {@code null}.
+     * @param limit                the requested page size; may be {@code null}.
+     * @param includeProducts      whether to include the products of the orders.
+     * @param representationSuffix the entity tag suffix of the negotiated representation.
+     * @return the page of orders.
+     */
+    private ResponseEntity<OrderPageResponseDto> getOrders(OrderStatus status, BigDecimal minPrice,
+                                                           BigDecimal maxPrice, String cursor, Integer limit,
+                                                           boolean includeProducts, String representationSuffix) {
+        OrderPageResponseDto orders = orderService.getOrders(status, toLowerPriceBound(minPrice),
+                toUpperPriceBound(maxPrice), cursor, limit, includeProducts);
+        return withETag(orders, toETag(orders), representationSuffix);
+    }
+
+    /**
+     * Wraps a body in a response tagged for the representation it is sent in.
+     * <p>
+     * The response varies with {@code Accept}, since JSON and CBOR share the URL. Spring answers a matching
+     * {@code If-None-Match} with 304 and these headers, without writing the body.
+     *
+     * @param body                 the body.
+     * @param eTag                 the entity tag of the state of the body, without quotes.
+     * @param representationSuffix the entity tag suffix of the negotiated representation.
+     * @return the response.
+     */
+    private static <T> ResponseEntity<T> withETag(T body, String eTag, String representationSuffix) {
+        return ResponseEntity.ok()
+                .eTag(eTag + representationSuffix)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    /**
+     * Streams the matching orders one item at a time, so memory use does not grow with the number of orders.
+     *
+     * @param status          the status filter; may be {@code null}.
+     * @param minPrice        the minimum total price in major units; may be {@code null}.
+     * @param maxPrice        the maximum total price in major units; may be {@code null}.
+     * @param includeProducts whether to include the products of the orders.
+     * @param mapper          the mapper of the wire format.
+     * @param contentType     the media type of the stream.
+     * @param delimiter       the byte written after each order, or {@code null} for none.
+     * @return the streaming response.
+     */
+    private ResponseEntity<StreamingResponseBody> streamOrders(OrderStatus status, BigDecimal minPrice,
+                                                               BigDecimal maxPrice, boolean includeProducts,
+                                                               ObjectMapper mapper,
+                                                               MediaType contentType, Character delimiter) {
+        Long minMinorUnits = toLowerPriceBound(minPrice);
+        Long maxMinorUnits = toUpperPriceBound(maxPrice);
+        ObjectWriter writer = mapper.writerFor(OrderResponseDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream ->
+                orderService.streamOrders(status, minMinorUnits, maxMinorUnits, includeProducts, order -> {
+                    try {
+                        writer.writeValue(outputStream, order);
+                        if (delimiter != null) {
+                            outputStream.write(delimiter);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(body);
+    }
+
+    /**
+     * Converts the minimum price of a filter to minor units, rounding up so that the filter still matches exactly
+     * the orders priced at or above it.
+     *
+     * @param minPrice the minimum price in major units; may be {@code null}.
+     * @return the minimum price in minor units, or {@code null}.
+     * @throws InvalidRequestException if the price does not fit into minor units.
+     */
+    static Long toLowerPriceBound(BigDecimal minPrice) {
+        return toPriceBound(minPrice, RoundingMode.CEILING);
+    }
+
+    /**
+     * Converts the maximum price of a filter to minor units, rounding down so that the filter still matches exactly
+     * the orders priced at or below it.
+     *
+     * @param maxPrice the maximum price in major units; may be {@code null}.
+     * @return the maximum price in minor units, or {@code null}.
+     * @throws InvalidRequestException if the price does not fit into minor units.
+     */
+    static Long toUpperPriceBound(BigDecimal maxPrice) {
+        return toPriceBound(maxPrice, RoundingMode.FLOOR);
+    }
+
+    private static Long toPriceBound(BigDecimal price, RoundingMode rounding) {
+        if (price == null) {
+            return null;
+        }
+        try {
+            return Money.toMinorUnits(price, rounding);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Computes a strong entity tag of a page of orders from the IDs and versions of its orders and its cursor.
+     * <p>
+     * Versions change with every change of an order or its products, so the tag changes whenever the page would
+     * render differently, without hashing the rendered body.
+     *
+     * @param page the page of orders.
+     * @return the entity tag, without quotes.
+     */
+    private static String toETag(OrderPageResponseDto page) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        ByteBuffer idAndVersion = ByteBuffer.allocate(2 * Long.BYTES);
+        for (OrderResponseDto order : page.getOrders()) {
+            idAndVersion.clear();
+            idAndVersion.putLong(order.getId()).putLong(order.getVersion() == null ? -1 : order.getVersion());
+            digest.update(idAndVersion.array());
+        }
+        if (page.getNextCursor() != null) {
+            digest.update(page.getNextCursor().getBytes(StandardCharsets.UTF_8));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), ETAG_HASH_BYTES));
+    }
+
+    /**
+     * Converts an {@code If-Match} header into the order version a change must be based on.
+     * <p>
+     * Order ETags are the quoted version, with {@link #CBOR_ETAG_SUFFIX} for CBOR representations, which name the
+     * same version. A missing header or {@code *} allows any version. Under the strong
+     * comparison {@code If-Match} requires, weak or foreign tags match no version, as does a list of tags,
+     * since a change can only be made conditional on one version.
+     *
+     * @param ifMatch the {@code If-Match} header; may be {@code null}.
+     * @return the expected version, {@code null} for any version, or {@link #UNMATCHABLE_VERSION}.
+     */
+    private static Long toExpectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            return UNMATCHABLE_VERSION;
+        }
+        String version = eTag.substring(1, eTag.length() - 1);
+        if (version.endsWith(CBOR_ETAG_SUFFIX)) {
+            version = version.substring(0, version.length() - CBOR_ETAG_SUFFIX.length());
+        }
+        try {
+            return Long.parseLong(version);
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
 }
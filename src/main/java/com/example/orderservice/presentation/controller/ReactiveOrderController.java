@@ -0,0 +1,63 @@
+package com.example.orderservice.presentation.controller;
+
+import com.example.orderservice.application.service.ReactiveOrderService;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking variant of the read endpoints of {@link OrderController}, served over R2DBC.
+ * <p>
+ * The request thread is released while the database works; the response is completed asynchronously once
+ * the orders arrive. The NDJSON listing writes each order as soon as it is read and requests the next one
+ * only after it has been written, so slow clients throttle the database cursor instead of buffering.
+ * Enabled by {@code orders.reactive.enabled}.
+ */
+@RestController
+@RequestMapping("/reactive/orders")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.reactive.enabled", havingValue = "true")
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService orderService;
+
+    @GetMapping
+    public Mono<ResponseEntity<OrderPageResponseDto>> getOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return orderService.getOrders(status, OrderController.toLowerPriceBound(minPrice),
+                        OrderController.toUpperPriceBound(maxPrice), cursor, limit)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderResponseDto> streamOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice) {
+        return orderService.streamOrders(status, OrderController.toLowerPriceBound(minPrice),
+                OrderController.toUpperPriceBound(maxPrice));
+    }
+
+    @GetMapping("/{orderId}")
+    public Mono<ResponseEntity<OrderResponseDto>> getOrderById(@PathVariable Long orderId) {
+        return orderService.getOrderById(orderId)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.orderservice.presentation.dto.money;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code Long} DTO field holding an amount in minor units, which is read and written as a decimal number
+ * in major units, e.g. {@code 1099} as {@code 10.99}.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = MinorUnitsSerializer.class)
+@JsonDeserialize(using = MinorUnitsDeserializer.class)
+public @interface MinorUnits {
+}
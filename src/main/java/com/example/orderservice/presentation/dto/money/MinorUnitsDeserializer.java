@@ -0,0 +1,50 @@
+package com.example.orderservice.presentation.dto.money;
+
+import com.example.orderservice.domain.money.Money;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a number in major units, or a string holding one, as an amount in minor units.
+ * <p>
+ * Fractional amounts are parsed from their textual form, so {@code 10.99} becomes exactly {@code 1099}.
+ * Amounts with fractions of a minor unit are rejected rather than rounded.
+ */
+public class MinorUnitsDeserializer extends StdDeserializer<Long> {
+
+    public MinorUnitsDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            try {
+                return Math.multiplyExact(p.getLongValue(), Money.MINOR_UNITS_PER_MAJOR_UNIT);
+            } catch (ArithmeticException e) {
+                throw InvalidFormatException.from(p, "Amount is out of range", p.getText(), Long.class);
+            }
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                || token == JsonToken.VALUE_STRING) {
+            String text = p.getText().trim();
+            try {
+                return Money.toMinorUnits(new BigDecimal(text));
+            } catch (NumberFormatException e) {
+                throw InvalidFormatException.from(p, "Amount is not a number", text, Long.class);
+            } catch (ArithmeticException e) {
+                throw InvalidFormatException.from(p,
+                        "Amount must have at most " + Money.SCALE + " decimal places and be in range", text,
+                        Long.class);
+            }
+        }
+        return (Long) ctxt.handleUnexpectedToken(Long.class, p);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.orderservice.presentation.dto.money;
+
+import com.example.orderservice.domain.money.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes an amount in minor units as a number in major units.
+ * <p>
+ * The number is written as a decimal with {@link Money#SCALE} places, so {@code 1099} becomes exactly
+ * {@code 10.99} and reads back through {@link MinorUnitsDeserializer} as the same amount.
+ */
+public class MinorUnitsSerializer extends StdSerializer<Long> {
+
+    public MinorUnitsSerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(BigDecimal.valueOf(value, Money.SCALE));
+    }
+}
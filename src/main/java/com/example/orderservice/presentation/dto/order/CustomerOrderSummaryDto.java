@@ -0,0 +1,37 @@
+package com.example.orderservice.presentation.dto.order;
+
+import com.example.orderservice.presentation.dto.money.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO for the order totals of a single customer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderSummaryDto {
+
+    private String customerName;
+
+    /**
+     * Number of non-deleted orders of the customer, in any status.
+     */
+    private long orderCount;
+
+    /**
+     * Number of non-deleted orders of the customer per status, including statuses without orders.
+     */
+    private Map<String, Long> orderCountByStatus;
+
+    /**
+     * Summed total price of the customer's non-deleted orders that are not cancelled, in minor units.
+     */
+    @MinorUnits
+    private Long totalSpend;
+}
@@ -0,0 +1,28 @@
+package com.example.orderservice.presentation.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * DTO describing why a single order of a bulk ingestion was rejected.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchErrorDto {
+
+    /**
+     * The zero-based position of the rejected order in the submitted batch.
+     */
+    private int index;
+
+    /**
+     * Validation messages keyed by the offending field path (e.g. {@code products[0].price}).
+     */
+    private Map<String, String> errors;
+}
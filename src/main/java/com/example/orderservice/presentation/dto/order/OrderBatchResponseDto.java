@@ -0,0 +1,39 @@
+package com.example.orderservice.presentation.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO describing the outcome of a bulk order ingestion.
+ * Valid orders are persisted even when other orders of the same batch are rejected.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResponseDto {
+
+    /**
+     * The number of orders persisted.
+     */
+    private int createdCount;
+
+    /**
+     * The number of orders rejected by validation.
+     */
+    private int failedCount;
+
+    /**
+     * The IDs of the persisted orders, in the order they were submitted.
+     */
+    private List<Long> createdIds;
+
+    /**
+     * The validation failures, one entry per rejected order.
+     */
+    private List<OrderBatchErrorDto> errors;
+}
@@ -0,0 +1,39 @@
+package com.example.orderservice.presentation.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * DTO for a single order change of the change feed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangeDto {
+
+    /**
+     * Sequence number of the change; pass the last one seen as {@code since} to continue the feed.
+     */
+    private long sequence;
+
+    private Long orderId;
+
+    /**
+     * The kind of change: CREATED, UPDATED or DELETED.
+     */
+    private String type;
+
+    private Instant occurredAt;
+
+    /**
+     * The order after the change, as stored in the outbox. Written as-is, without parsing.
+     */
+    @JsonRawValue
+    private String order;
+}
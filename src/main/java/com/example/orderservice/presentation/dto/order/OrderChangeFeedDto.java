@@ -0,0 +1,29 @@
+package com.example.orderservice.presentation.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the order change feed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangeFeedDto {
+
+    /**
+     * The changes after the requested sequence number, in ascending order.
+     */
+    private List<OrderChangeDto> changes;
+
+    /**
+     * The sequence number to pass as {@code since} for the next request.
+     * Equal to the requested one when there are no new changes.
+     */
+    private long nextSince;
+}
@@ -0,0 +1,29 @@
+package com.example.orderservice.presentation.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * DTO for a single page of a keyset-paginated order listing.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageResponseDto {
+
+    /**
+     * The orders on this page, ordered by ascending ID.
+     */
+    private List<OrderResponseDto> orders;
+
+    /**
+     * Opaque continuation token for the next page.
+     * {@code null} when this is the last page.
+     */
+    private String nextCursor;
+}
@@ -1,6 +1,8 @@
 package com.example.orderservice.presentation.dto.order;
 
+import com.example.orderservice.presentation.dto.money.MinorUnits;
 import com.example.orderservice.presentation.dto.product.ProductRequestDto;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -10,7 +12,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -39,16 +40,17 @@ public class OrderRequestDto {
     private String status;
 
     /**
-     * The total price of the order.
-     * Must not be null and must be a positive value.
+     * The total price of the order in minor units, read as a decimal amount in major units.
+     * Must equal the sum of the product prices times their quantities; may be null to have it computed.
      */
-    @NotNull(message = "Total price must not be null")
-    private BigDecimal totalPrice;
+    @MinorUnits
+    private Long totalPrice;
 
     /**
      * The list of products in the order.
-     * Must contain at least one product.
+     * Must contain at least one product, and every product must be valid.
      */
+    @Valid
     @NotNull(message = "Products list must not be null")
     @Size(min = 1, message = "Order must contain at least one product")
     private List<ProductRequestDto> products;
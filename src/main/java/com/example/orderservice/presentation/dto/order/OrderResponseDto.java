@@ -1,12 +1,13 @@
 package com.example.orderservice.presentation.dto.order;
 
+import com.example.orderservice.presentation.dto.money.MinorUnits;
 import com.example.orderservice.presentation.dto.product.ProductResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Getter
@@ -17,7 +18,22 @@ public class OrderResponseDto {
     private Long id;
     private String customerName;
     private String status;
-    private BigDecimal totalPrice;
+
+    /**
+     * The total price of the order in minor units, written as a decimal amount in major units.
+     */
+    @MinorUnits
+    private Long totalPrice;
+
+    private Integer itemCount;
+    private Long totalQuantity;
+
+    /**
+     * The products of the order; {@code null}, and omitted from the response, when a listing was requested
+     * without them.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<ProductResponseDto> products;
+    private Long version;
 }
 
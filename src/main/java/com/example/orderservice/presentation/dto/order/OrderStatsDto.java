@@ -0,0 +1,54 @@
+package com.example.orderservice.presentation.dto.order;
+
+import com.example.orderservice.presentation.dto.money.MinorUnits;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * DTO for the aggregated statistics of one group of orders, grouped by status and optionally by customer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatsDto {
+
+    /**
+     * The status shared by the orders of this group.
+     */
+    private String status;
+
+    /**
+     * The customer shared by the orders of this group.
+     * {@code null} unless the statistics are grouped by customer.
+     */
+    private String customerName;
+
+    private long orderCount;
+
+    /**
+     * Total price statistics in minor units, written as decimal amounts in major units.
+     * The average is rounded to the nearest minor unit.
+     */
+    @MinorUnits
+    private Long totalPriceSum;
+    @MinorUnits
+    private Long totalPriceAvg;
+    @MinorUnits
+    private Long totalPriceMin;
+    @MinorUnits
+    private Long totalPriceMax;
+
+    /**
+     * Number of product lines of the orders of this group; the quantity statistics are computed over these lines
+     * and are {@code null} when the group has none.
+     */
+    private long productCount;
+
+    private Long quantitySum;
+    private Double quantityAvg;
+    private Integer quantityMin;
+    private Integer quantityMax;
+}
@@ -1,5 +1,6 @@
 package com.example.orderservice.presentation.dto.product;
 
+import com.example.orderservice.presentation.dto.money.MinorUnits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -18,6 +19,13 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ProductRequestDto {
 
+    /**
+     * The ID of an existing product of the order to update in place.
+     * Optional: when updating an order, products without an ID are matched to the order's products by name,
+     * and products that match none are added.
+     */
+    private Long id;
+
     /**
      * The name of the product.
      * Must not be blank.
@@ -26,12 +34,13 @@ public class ProductRequestDto {
     private String name;
 
     /**
-     * The price of the product.
-     * Must not be null and must be greater than or equal to 0.01.
+     * The price of the product in minor units, read as a decimal amount in major units.
+     * Must not be null and must not be negative.
      */
+    @MinorUnits
     @NotNull(message = "Product price must not be null")
     @Min(value = 0, message = "Product price must be at least 0")
-    private Double price;
+    private Long price;
 
     /**
      * The quantity of the product.
@@ -1,5 +1,6 @@
 package com.example.orderservice.presentation.dto.product;
 
+import com.example.orderservice.presentation.dto.money.MinorUnits;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,12 @@ import lombok.Setter;
 public class ProductResponseDto {
     private Long id;
     private String name;
-    private Double price;
+
+    /**
+     * The price of the product in minor units, written as a decimal amount in major units.
+     */
+    @MinorUnits
+    private Long price;
+
     private Integer quantity;
 }
@@ -1,11 +1,21 @@
 package com.example.orderservice.presentation.exception;
 
+import com.example.orderservice.application.exception.InvalidOrderException;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.exception.LoginRateLimitExceededException;
+import com.example.orderservice.application.exception.OrderVersionMismatchException;
+import com.example.orderservice.application.exception.PasswordVerificationUnavailableException;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -78,6 +88,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles {@link InvalidOrderException} for validation errors of orders assembled by the service,
+     * in the same format as {@link #handleValidationExceptions(MethodArgumentNotValidException)}.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with detailed validation error messages and {@link HttpStatus#BAD_REQUEST}
+     */
+    @ExceptionHandler(InvalidOrderException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidOrderException(InvalidOrderException ex) {
+        return new ResponseEntity<>(new HashMap<>(ex.getViolations()), HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles {@link MethodArgumentTypeMismatchException} when a request parameter cannot be converted to the expected type.
      *
@@ -92,6 +114,125 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles {@link InvalidRequestException} when a request carries a semantically invalid value,
+     * such as a malformed pagination cursor.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message and {@link HttpStatus#BAD_REQUEST}
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequestException(InvalidRequestException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Invalid parameter");
+        errorResponse.put("details", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles {@link LoginRateLimitExceededException} when too many login attempts for one email failed.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message, a {@code Retry-After} header and
+     * {@link HttpStatus#TOO_MANY_REQUESTS}
+     */
+    @ExceptionHandler(LoginRateLimitExceededException.class)
+    public ResponseEntity<Map<String, String>> handleLoginRateLimitExceededException(
+            LoginRateLimitExceededException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Too many requests");
+        errorResponse.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles {@link PasswordVerificationUnavailableException} when logins cannot be processed because the
+     * password verification workers are saturated.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message, a {@code Retry-After} header and
+     * {@link HttpStatus#SERVICE_UNAVAILABLE}
+     */
+    @ExceptionHandler(PasswordVerificationUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordVerificationUnavailableException(
+            PasswordVerificationUnavailableException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Service unavailable");
+        errorResponse.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles {@link OrderVersionMismatchException} when a conditional change names a version of the order
+     * other than the current one.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message, the current {@code ETag} and
+     * {@link HttpStatus#PRECONDITION_FAILED}
+     */
+    @ExceptionHandler(OrderVersionMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleOrderVersionMismatchException(
+            OrderVersionMismatchException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Precondition failed");
+        errorResponse.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(String.valueOf(ex.getCurrentVersion()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles optimistic locking failures when an entity was changed concurrently between being read and written.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message and {@link HttpStatus#CONFLICT}
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<Map<String, String>> handleOptimisticLockException(Exception ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Concurrent modification");
+        errorResponse.put("details", "The resource was modified concurrently; read it again and retry.");
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles {@link HttpMediaTypeNotSupportedException} when a request body is sent with a content type the
+     * endpoint does not accept, such as a patch that is not a JSON merge patch.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message, the {@code Accept} or {@code Accept-Patch} header listing
+     * the supported types and {@link HttpStatus#UNSUPPORTED_MEDIA_TYPE}
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, String>> handleMediaTypeNotSupportedException(
+            HttpMediaTypeNotSupportedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Unsupported media type");
+        errorResponse.put("details", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .headers(ex.getHeaders())
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles {@link HttpMessageNotReadableException} when a request body cannot be read, such as malformed JSON
+     * or an amount with fractions of a cent.
+     *
+     * @param ex the exception thrown
+     * @return a {@link ResponseEntity} with error message and {@link HttpStatus#BAD_REQUEST}
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, String>> handleMessageNotReadableException(HttpMessageNotReadableException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Malformed request body");
+        errorResponse.put("details", ex.getMostSpecificCause().getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles generic exceptions that are not specifically handled by other methods.
      *
@@ -0,0 +1,176 @@
+package com.example.orderservice.application.outbox;
+
+import com.example.orderservice.domain.order.OrderChangeType;
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import com.example.orderservice.infrastructure.outbox.InMemoryOrderEventPublisher;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles({"test", "h2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderOutbox.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderOutbox outbox;
+
+    @Autowired
+    private OrderOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should publish all pending changes in sequence order, batch by batch, exactly once")
+    void relay_PendingChanges_PublishesAllInOrder() {
+        record(5);
+        InMemoryOrderEventPublisher publisher = new InMemoryOrderEventPublisher(100);
+        OrderOutboxRelay relay = relay(publisher);
+
+        relay.relay();
+        relay.relay();
+
+        List<OrderChangeDto> published = publisher.getPublished();
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), published.stream().map(OrderChangeDto::getOrderId).toList());
+        assertTrue(published.get(0).getOrder().contains("\"customerName\":\"user1@example.com\""),
+                published.get(0).getOrder());
+        assertEquals(0, repository.findAll().stream().filter(event -> event.getPublishedAt() == null).count());
+    }
+
+    @Test
+    @DisplayName("Should keep changes pending when publishing fails and publish them with the next run")
+    void relay_PublisherFails_RetriesWithNextRun() {
+        record(3);
+        InMemoryOrderEventPublisher publisher = new InMemoryOrderEventPublisher(100);
+
+        relay(changes -> {
+            throw new IllegalStateException("Broker unavailable");
+        }).relay();
+
+        assertEquals(3, repository.findAll().stream().filter(event -> event.getPublishedAt() == null).count());
+
+        relay(publisher).relay();
+
+        assertEquals(3, publisher.getPublished().size());
+    }
+
+    @Test
+    @DisplayName("Should serve a change whose transaction commits after a later one, after the later change")
+    void relay_OlderTransactionCommitsLast_ServesItAfterNewerChange() throws Exception {
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> olderTransaction = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    outbox.record(OrderChangeType.CREATED, order(1));
+                    recorded.countDown();
+                    await(commit);
+                }));
+        assertTrue(recorded.await(5, TimeUnit.SECONDS));
+        transactionTemplate.executeWithoutResult(status -> outbox.record(OrderChangeType.CREATED, order(2)));
+        OrderOutboxRelay relay = relay(new InMemoryOrderEventPublisher(100));
+
+        relay.relay();
+        List<OrderOutboxEvent> firstPoll = repository.findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(0,
+                Limit.of(10));
+        commit.countDown();
+        olderTransaction.get(5, TimeUnit.SECONDS);
+        relay.relay();
+        List<OrderOutboxEvent> secondPoll = repository.findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(
+                firstPoll.get(firstPoll.size() - 1).getFeedSequence(), Limit.of(10));
+
+        assertEquals(List.of(2L), firstPoll.stream().map(OrderOutboxEvent::getOrderId).toList());
+        assertEquals(List.of(1L), secondPoll.stream().map(OrderOutboxEvent::getOrderId).toList());
+        // The late change was inserted first, but is sequenced after the change already served
+        assertTrue(secondPoll.get(0).getId() < firstPoll.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should refuse to record changes outside of a transaction")
+    void record_NoTransaction_ThrowsException() {
+        assertThrows(RuntimeException.class, () -> outbox.record(OrderChangeType.CREATED, order(1)));
+    }
+
+    @Test
+    @DisplayName("Should delete published changes older than the retention and keep pending ones")
+    void deleteExpired_PublishedChanges_DeletesOnlyPublished() {
+        record(2);
+        relay(new InMemoryOrderEventPublisher(100)).relay();
+        record(1);
+        OrderOutboxRelay relay = relay(new InMemoryOrderEventPublisher(100));
+        ReflectionTestUtils.setField(relay, "retention", Duration.ofSeconds(-1));
+
+        relay.deleteExpired();
+
+        List<OrderOutboxEvent> remaining = repository.findAll();
+        assertEquals(1, remaining.size());
+        assertNull(remaining.get(0).getPublishedAt());
+    }
+
+    private void record(int count) {
+        transactionTemplate.executeWithoutResult(status -> outbox.recordAll(OrderChangeType.CREATED,
+                LongStream.rangeClosed(1, count).mapToObj(OrderOutboxRelayTest::order).toList()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OrderOutboxRelay relay(OrderEventPublisher publisher) {
+        OrderOutboxRelay relay = new OrderOutboxRelay(repository, publisher, transactionTemplate);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "retention", Duration.ofDays(7));
+        return relay;
+    }
+
+    private static OrderResponseDto order(long id) {
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(id);
+        order.setCustomerName("user" + id + "@example.com");
+        order.setStatus("PENDING");
+        order.setProducts(List.of());
+        return order;
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.orderservice.application.service.impl;
 
 import com.example.orderservice.domain.auth.User;
+import com.example.orderservice.application.exception.LoginRateLimitExceededException;
 import com.example.orderservice.infrastructure.config.security.JwtUtil;
+import com.example.orderservice.infrastructure.config.security.LoginRateLimiter;
+import com.example.orderservice.infrastructure.config.security.PasswordVerifier;
 import com.example.orderservice.infrastructure.repository.UserRepository;
 import com.example.orderservice.presentation.dto.auth.AuthenticateDto;
 import com.example.orderservice.presentation.dto.auth.AuthenticateResponseDto;
@@ -14,11 +17,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -27,6 +34,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceImplTest {
 
+    private static final String CLIENT = "192.0.2.1";
+
     @Mock
     private UserRepository userRepository;
 
@@ -34,7 +43,10 @@ class AuthServiceImplTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private PasswordEncoder encoder;
+    private PasswordVerifier passwordVerifier;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -57,17 +69,19 @@ class AuthServiceImplTest {
     @DisplayName("Should return a token when credentials are valid")
     void login_ValidCredentials_ReturnsToken() {
         when(userRepository.findByEmail(validAuthenticateDto.getEmail())).thenReturn(java.util.Optional.of(validUser));
-        when(encoder.matches(validAuthenticateDto.getPassword(), validUser.getPassword())).thenReturn(true);
+        when(passwordVerifier.matches(validAuthenticateDto.getPassword(), validUser.getPassword())).thenReturn(true);
         when(jwtUtil.generateToken(validUser)).thenReturn("mocked-jwt-token");
 
-        AuthenticateResponseDto response = authService.login(validAuthenticateDto);
+        AuthenticateResponseDto response = authService.login(validAuthenticateDto, CLIENT);
 
         assertNotNull(response);
         assertEquals("mocked-jwt-token", response.getToken());
         verify(userRepository, times(1)).findByEmail(validAuthenticateDto.getEmail());
-        verify(encoder, times(1))
+        verify(passwordVerifier, times(1))
                 .matches(validAuthenticateDto.getPassword(), validUser.getPassword());
         verify(jwtUtil, times(1)).generateToken(validUser);
+        verify(loginRateLimiter, times(1)).reset(validAuthenticateDto.getEmail(), CLIENT);
+        verify(loginRateLimiter, never()).recordFailure(any(), any());
     }
 
     @Test
@@ -77,13 +91,14 @@ class AuthServiceImplTest {
 
         UsernameNotFoundException exception = assertThrows(
                 UsernameNotFoundException.class,
-                () -> authService.login(validAuthenticateDto)
+                () -> authService.login(validAuthenticateDto, CLIENT)
         );
 
         assertEquals("User not found", exception.getMessage());
         verify(userRepository, times(1)).findByEmail(validAuthenticateDto.getEmail());
-        verifyNoInteractions(encoder);
+        verifyNoInteractions(passwordVerifier);
         verifyNoInteractions(jwtUtil);
+        verify(loginRateLimiter, times(1)).recordFailure(validAuthenticateDto.getEmail(), CLIENT);
     }
 
     @Test
@@ -91,18 +106,32 @@ class AuthServiceImplTest {
     void login_InvalidPassword_ThrowsException() {
         when(userRepository.findByEmail(invalidPasswordAuthenticateDto.getEmail()))
                 .thenReturn(java.util.Optional.of(validUser));
-        when(encoder.matches(invalidPasswordAuthenticateDto.getPassword(), validUser.getPassword()))
+        when(passwordVerifier.matches(invalidPasswordAuthenticateDto.getPassword(), validUser.getPassword()))
                 .thenReturn(false);
 
         BadCredentialsException exception = assertThrows(
                 BadCredentialsException.class,
-                () -> authService.login(invalidPasswordAuthenticateDto)
+                () -> authService.login(invalidPasswordAuthenticateDto, CLIENT)
         );
 
         assertEquals("Invalid password", exception.getMessage());
         verify(userRepository, times(1)).findByEmail(invalidPasswordAuthenticateDto.getEmail());
-        verify(encoder, times(1))
+        verify(passwordVerifier, times(1))
                 .matches(invalidPasswordAuthenticateDto.getPassword(), validUser.getPassword());
         verifyNoInteractions(jwtUtil);
+        verify(loginRateLimiter, times(1)).recordFailure(invalidPasswordAuthenticateDto.getEmail(), CLIENT);
+        verify(loginRateLimiter, never()).reset(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a rate-limited login before looking up the user or verifying the password")
+    void login_RateLimited_ThrowsException() {
+        doThrow(new LoginRateLimitExceededException(Duration.ofMinutes(1)))
+                .when(loginRateLimiter).checkAllowed(validAuthenticateDto.getEmail(), CLIENT);
+
+        assertThrows(LoginRateLimitExceededException.class, () -> authService.login(validAuthenticateDto, CLIENT));
+
+        verifyNoInteractions(userRepository);
+        verifyNoInteractions(passwordVerifier);
     }
 }
@@ -0,0 +1,544 @@
+package com.example.orderservice.application.service.impl;
+
+import com.example.orderservice.application.exception.InvalidOrderException;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.exception.OrderVersionMismatchException;
+import com.example.orderservice.application.outbox.OrderOutbox;
+import com.example.orderservice.application.outbox.OrderOutboxRelay;
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.domain.product.Product;
+import com.example.orderservice.infrastructure.cache.CaffeineOrderCache;
+import com.example.orderservice.infrastructure.config.cache.CacheConfig;
+import com.example.orderservice.infrastructure.mapper.OrderMapperImpl;
+import com.example.orderservice.infrastructure.outbox.InMemoryOrderEventPublisher;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
+import com.example.orderservice.infrastructure.repository.OrderRepository;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderRequestDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.product.ProductRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Verifies that listing orders issues a constant number of SQL statements regardless of page size,
+ * i.e. that products are not loaded lazily one order at a time, and that bulk ingestion batches its
+ * inserts and sequence calls.
+ */
+@DataJpaTest
+@ActiveProfiles({"test", "h2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderServiceImpl.class, OrderMapperImpl.class, LocalValidatorFactoryBean.class,
+        CacheConfig.class, CaffeineOrderCache.class, OrderOutbox.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceImplStatementCountTest {
+
+    private static final int ORDER_COUNT = 60;
+    private static final int PRODUCTS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM Product").executeUpdate();
+        entityManager.createQuery("DELETE FROM Order").executeUpdate();
+        entityManager.createQuery("DELETE FROM CustomerOrderSummary").executeUpdate();
+        entityManager.createQuery("DELETE FROM OrderOutboxEvent").executeUpdate();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            entityManager.persist(order(i));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+
+        User principal = new User("admin1@example.com", "", List.of(new SimpleGrantedAuthority("ROLE_Admin")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("Should load a page of orders with their products in a constant number of statements")
+    void getOrders_AnyPageSize_UsesConstantStatementCount(int pageSize) {
+        statistics.clear();
+
+        OrderPageResponseDto page = orderService.getOrders(null, null, null, null, pageSize, true);
+
+        assertEquals(pageSize, page.getOrders().size());
+        page.getOrders().forEach(order -> assertEquals(PRODUCTS_PER_ORDER, order.getProducts().size()));
+        // One statement for the page of IDs and one for the orders joined with their products
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should list orders without products from the order rows alone")
+    void getOrders_WithoutProducts_DoesNotReadProducts() {
+        statistics.clear();
+
+        OrderPageResponseDto page = orderService.getOrders(null, null, null, null, 10, false);
+
+        assertEquals(10, page.getOrders().size());
+        page.getOrders().forEach(order -> {
+            assertNull(order.getProducts());
+            assertEquals(PRODUCTS_PER_ORDER, order.getItemCount());
+            assertEquals(PRODUCTS_PER_ORDER, order.getTotalQuantity());
+        });
+        // One statement for the page of IDs and one for the order rows, with no product collection loaded
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, ORDER_COUNT})
+    @DisplayName("Should stream orders with their products without a statement per order")
+    void streamOrders_AnyResultSize_UsesConstantStatementCount(int resultSize) {
+        statistics.clear();
+        List<OrderResponseDto> streamed = new ArrayList<>();
+
+        orderService.streamOrders(null, null, (resultSize - 1) * 100L, true, streamed::add);
+
+        assertEquals(resultSize, streamed.size());
+        streamed.forEach(order -> assertEquals(PRODUCTS_PER_ORDER, order.getProducts().size()));
+        // One statement for the ID cursor and one per chunk of orders joined with their products
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should create an order with many products in a constant number of statements")
+    void createOrder_FiftyProducts_UsesConstantStatementCount() {
+        OrderRequestDto request = orderRequest();
+        request.setProducts(IntStream.range(0, 50)
+                .mapToObj(i -> new ProductRequestDto(null, "product-" + i, 100L, 1))
+                .collect(Collectors.toList()));
+        request.setTotalPrice(5_000L);
+        statistics.clear();
+
+        OrderResponseDto created = orderService.createOrder(request);
+
+        assertEquals(50, created.getProducts().size());
+        // At most one call to each entity sequence (none if an earlier block still has IDs left),
+        // the order insert, one batched insert for the products and two statements for the customer summary
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "Expected at most 6 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should ingest orders with batched inserts and pooled sequence calls")
+    void createOrders_ManyOrders_BatchesInsertsAndSequenceCalls() {
+        int batchSize = 100;
+        List<OrderRequestDto> requests = IntStream.range(0, batchSize).mapToObj(i -> orderRequest()).toList();
+        statistics.clear();
+
+        OrderBatchResponseDto result = orderService.createOrders(requests);
+
+        assertEquals(batchSize, result.getCreatedCount());
+        assertEquals(batchSize, result.getCreatedIds().stream().distinct().count());
+        assertEquals(batchSize * (1L + PRODUCTS_PER_ORDER), statistics.getEntityInsertCount());
+        // 100 orders and 300 products need 2 + 6 sequence calls and as many insert batches of 50,
+        // plus two statements for the summary of their single customer and status;
+        // without pooling and batching this would be 800 statements
+        assertTrue(statistics.getPrepareStatementCount() <= 18,
+                "Expected at most 18 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should update only the changed product when one quantity of an order changes")
+    void updateOrder_OneQuantityChanged_UpdatesOnlyThatProduct() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        OrderRequestDto request = orderRequest();
+        for (int i = 0; i < PRODUCTS_PER_ORDER; i++) {
+            request.getProducts().get(i).setId(created.getProducts().get(i).getId());
+        }
+        request.getProducts().get(1).setQuantity(5);
+        request.setTotalPrice(700L);
+        statistics.clear();
+
+        OrderResponseDto updated = orderService.updateOrder(created.getId(), request, null);
+
+        // The product and the totals of the order
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(created.getProducts().stream().map(p -> p.getId()).toList(),
+                updated.getProducts().stream().map(p -> p.getId()).toList());
+        assertEquals(5, updated.getProducts().get(1).getQuantity());
+        assertEquals(7L, updated.getTotalQuantity());
+    }
+
+    @Test
+    @DisplayName("Should match products without an ID by name and insert or delete only the difference")
+    void updateOrder_ProductsWithoutIds_MatchesByNameAndDiffs() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        OrderRequestDto request = orderRequest();
+        request.getProducts().get(1).setPrice(200L);
+        request.getProducts().set(2, new ProductRequestDto(null, "product-new", 100L, 1));
+        request.setTotalPrice(400L);
+        statistics.clear();
+
+        OrderResponseDto updated = orderService.updateOrder(created.getId(), request, null);
+
+        // The repriced product and the total of the order
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(List.of(created.getProducts().get(0).getId(), created.getProducts().get(1).getId()),
+                updated.getProducts().subList(0, 2).stream().map(p -> p.getId()).toList());
+        assertEquals("product-new", updated.getProducts().get(2).getName());
+        assertNotNull(updated.getProducts().get(2).getId());
+    }
+
+    @Test
+    @DisplayName("Should reject a product ID that belongs to another order")
+    void updateOrder_ForeignProductId_ThrowsException() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        OrderResponseDto other = orderService.createOrder(orderRequest());
+        OrderRequestDto request = orderRequest();
+        request.getProducts().get(0).setId(other.getProducts().get(0).getId());
+
+        assertThrows(InvalidRequestException.class, () -> orderService.updateOrder(created.getId(), request, null));
+    }
+
+    @Test
+    @DisplayName("Should patch only the status of an order with a single-row update")
+    void patchOrder_StatusOnly_UpdatesOnlyTheOrder() throws Exception {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        statistics.clear();
+
+        OrderResponseDto patched = orderService.patchOrder(created.getId(),
+                objectMapper.readTree("{\"status\": \"CONFIRMED\"}"), null);
+
+        assertEquals("CONFIRMED", patched.getStatus());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    @DisplayName("Should merge and remove individual products of an order by ID")
+    void patchOrder_ProductsById_UpdatesAndRemovesOnlyThoseProducts() throws Exception {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        Long changedId = created.getProducts().get(0).getId();
+        Long removedId = created.getProducts().get(2).getId();
+        statistics.clear();
+
+        OrderResponseDto patched = orderService.patchOrder(created.getId(), objectMapper.readTree(
+                "{\"products\": {\"" + changedId + "\": {\"quantity\": 4}, \"" + removedId + "\": null}}"), null);
+
+        // The changed product and the totals of the order
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        assertEquals(PRODUCTS_PER_ORDER - 1, patched.getProducts().size());
+        assertEquals(4, patched.getProducts().get(0).getQuantity());
+        assertEquals("PENDING", patched.getStatus());
+        // Without a total in the patch, it is recomputed for the patched products
+        assertEquals(500L, patched.getTotalPrice());
+        assertEquals(2, patched.getItemCount());
+        assertEquals(5L, patched.getTotalQuantity());
+    }
+
+    @Test
+    @DisplayName("Should reject patches that remove required fields or change fields that cannot be patched")
+    void patchOrder_InvalidPatch_ThrowsException() throws Exception {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+
+        InvalidOrderException removedStatus = assertThrows(InvalidOrderException.class,
+                () -> orderService.patchOrder(created.getId(), objectMapper.readTree("{\"status\": null}"), null));
+        assertTrue(removedStatus.getViolations().containsKey("status"));
+        assertThrows(InvalidRequestException.class, () -> orderService.patchOrder(created.getId(),
+                objectMapper.readTree("{\"customerName\": \"other@example.com\"}"), null));
+        assertThrows(InvalidRequestException.class, () -> orderService.patchOrder(created.getId(),
+                objectMapper.readTree("{\"products\": {\"0\": {\"quantity\": 2}}}"), null));
+    }
+
+    @Test
+    @DisplayName("Should compute the totals of an order without a total price and reject a total that does not match")
+    void createOrder_TotalPrice_IsComputedOrVerified() {
+        OrderRequestDto request = orderRequest();
+        request.getProducts().get(0).setPrice(1_099L);
+        request.getProducts().get(0).setQuantity(3);
+        request.setTotalPrice(null);
+
+        OrderResponseDto created = orderService.createOrder(request);
+
+        assertEquals(3 * 1_099L + 200L, created.getTotalPrice());
+        assertEquals(PRODUCTS_PER_ORDER, created.getItemCount());
+        assertEquals(PRODUCTS_PER_ORDER + 2L, created.getTotalQuantity());
+
+        request.setTotalPrice(created.getTotalPrice() + 1);
+        InvalidOrderException mismatch = assertThrows(InvalidOrderException.class,
+                () -> orderService.createOrder(request));
+        assertTrue(mismatch.getViolations().containsKey("totalPrice"));
+        assertThrows(InvalidOrderException.class, () -> orderService.updateOrder(created.getId(), request, null));
+        assertEquals(created.getVersion(), orderService.getOrderById(created.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should reject updates and deletions based on a version other than the current one")
+    void updateOrder_StaleVersion_ThrowsVersionMismatch() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        OrderRequestDto confirmed = orderRequest();
+        confirmed.setStatus("CONFIRMED");
+
+        OrderResponseDto updated = orderService.updateOrder(created.getId(), confirmed, created.getVersion());
+
+        assertTrue(updated.getVersion() > created.getVersion());
+        OrderVersionMismatchException mismatch = assertThrows(OrderVersionMismatchException.class,
+                () -> orderService.updateOrder(created.getId(), orderRequest(), created.getVersion()));
+        assertEquals(updated.getVersion(), mismatch.getCurrentVersion());
+        assertThrows(OrderVersionMismatchException.class,
+                () -> orderService.deleteOrder(created.getId(), created.getVersion()));
+        orderService.deleteOrder(created.getId(), updated.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should move the order's version when only one of its products changes")
+    void patchOrder_ProductOnly_IncrementsOrderVersion() throws Exception {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        Long productId = created.getProducts().get(0).getId();
+
+        OrderResponseDto patched = orderService.patchOrder(created.getId(), objectMapper.readTree(
+                "{\"products\": {\"" + productId + "\": {\"quantity\": 7}}}"), created.getVersion());
+        OrderResponseDto renamed = orderService.patchOrder(created.getId(), objectMapper.readTree(
+                "{\"products\": {\"" + productId + "\": {\"name\": \"renamed\"}}}"), patched.getVersion());
+        OrderResponseDto unchanged = orderService.patchOrder(created.getId(), objectMapper.readTree("{}"),
+                renamed.getVersion());
+
+        assertTrue(patched.getVersion() > created.getVersion());
+        // Renaming a product leaves every column of the order as it is, yet still moves its version
+        assertEquals(patched.getVersion() + 1, renamed.getVersion());
+        assertEquals(renamed.getVersion(), orderService.getOrderById(created.getId()).getVersion());
+        // A patch that changes nothing writes nothing and keeps the version
+        assertEquals(renamed.getVersion(), unchanged.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should move the order's version by exactly one when its fields and products change together")
+    void updateOrder_FieldsAndProducts_IncrementsVersionOnce() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        OrderRequestDto changed = orderRequest();
+        changed.setStatus("CONFIRMED");
+        changed.setTotalPrice(null);
+        for (int i = 0; i < PRODUCTS_PER_ORDER; i++) {
+            changed.getProducts().get(i).setId(created.getProducts().get(i).getId());
+        }
+        changed.getProducts().get(0).setQuantity(4);
+
+        OrderResponseDto updated = orderService.updateOrder(created.getId(), changed, created.getVersion());
+
+        assertEquals(created.getVersion() + 1, updated.getVersion());
+        assertEquals(updated.getVersion(), orderService.getOrderById(created.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not re-cache an order read before a concurrent update committed")
+    void getOrderById_ReadInterleavedWithUpdate_DoesNotCacheStaleOrder() throws Exception {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        // The spy delegates to the repository proxy through its default answer
+        Answer<?> repositoryCall = mockingDetails(orderRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object order = repositoryCall.answer(invocation);
+            loaded.countDown();
+            assertTrue(updated.await(10, TimeUnit.SECONDS));
+            return order;
+        }).doAnswer(repositoryCall).when(orderRepository).findWithProductsByIdAndNotDeleted(created.getId());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        CompletableFuture<OrderResponseDto> staleRead = CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            try {
+                return orderService.getOrderById(created.getId());
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+        assertTrue(loaded.await(10, TimeUnit.SECONDS));
+        OrderRequestDto confirmed = orderRequest();
+        confirmed.setStatus("CONFIRMED");
+        OrderResponseDto result = orderService.updateOrder(created.getId(), confirmed, created.getVersion());
+        updated.countDown();
+
+        assertEquals(created.getVersion(), staleRead.get(10, TimeUnit.SECONDS).getVersion());
+        assertEquals(result.getVersion(), orderService.getOrderById(created.getId()).getVersion());
+        assertEquals(result.getVersion(), orderService.getOrderById(created.getId()).getVersion());
+    }
+
+    @Test
+    @DisplayName("Should persist the valid orders of a batch and report the invalid ones by index")
+    void createOrders_InvalidItems_ReportsErrorsAndPersistsTheRest() {
+        OrderRequestDto invalidEmail = orderRequest();
+        invalidEmail.setCustomerName("not-an-email");
+        OrderRequestDto invalidStatus = orderRequest();
+        invalidStatus.setStatus("SHIPPED");
+        OrderRequestDto invalidProduct = orderRequest();
+        invalidProduct.getProducts().get(0).setName("");
+        OrderRequestDto invalidTotal = orderRequest();
+        invalidTotal.setTotalPrice(1L);
+
+        OrderBatchResponseDto result = orderService.createOrders(
+                List.of(orderRequest(), invalidEmail, invalidStatus, orderRequest(), invalidProduct, invalidTotal));
+
+        assertEquals(2, result.getCreatedCount());
+        assertEquals(4, result.getFailedCount());
+        assertEquals(List.of(1, 2, 4, 5), result.getErrors().stream().map(e -> e.getIndex()).toList());
+        assertTrue(result.getErrors().get(0).getErrors().containsKey("customerName"));
+        assertTrue(result.getErrors().get(1).getErrors().containsKey("status"));
+        assertTrue(result.getErrors().get(2).getErrors().containsKey("products[0].name"));
+        assertTrue(result.getErrors().get(3).getErrors().containsKey("totalPrice"));
+    }
+
+    @Test
+    @DisplayName("Should keep the customer summary in step with created, updated and deleted orders")
+    void getCustomerSummary_AfterCreateUpdateDelete_ReflectsChanges() {
+        OrderResponseDto first = orderService.createOrder(orderRequest());
+        OrderResponseDto second = orderService.createOrder(orderRequest());
+        orderService.createOrders(List.of(orderRequest(), orderRequest()));
+        OrderRequestDto cancelled = orderRequest();
+        cancelled.setStatus("CANCELLED");
+        orderService.updateOrder(first.getId(), cancelled, null);
+        orderService.deleteOrder(second.getId(), null);
+
+        CustomerOrderSummaryDto summary = orderService.getCustomerSummary("partner@example.com");
+
+        assertEquals(3, summary.getOrderCount());
+        assertEquals(2L, summary.getOrderCountByStatus().get("PENDING"));
+        assertEquals(1L, summary.getOrderCountByStatus().get("CANCELLED"));
+        assertEquals(0L, summary.getOrderCountByStatus().get("CONFIRMED"));
+        // Cancelled orders do not count towards the spend
+        assertEquals(2L * PRODUCTS_PER_ORDER * 100, summary.getTotalSpend());
+    }
+
+    @Test
+    @DisplayName("Should serve created, updated and deleted orders from the change feed in commit order")
+    void getChanges_AfterCreateUpdateDelete_ReturnsChangesInOrder() {
+        OrderResponseDto created = orderService.createOrder(orderRequest());
+        orderService.createOrders(List.of(orderRequest(), orderRequest()));
+        OrderRequestDto confirmed = orderRequest();
+        confirmed.setStatus("CONFIRMED");
+        orderService.updateOrder(created.getId(), confirmed, null);
+        orderService.deleteOrder(created.getId(), null);
+        publishChanges();
+
+        OrderChangeFeedDto firstPage = orderService.getChanges(0, 3);
+        OrderChangeFeedDto secondPage = orderService.getChanges(firstPage.getNextSince(), 3);
+
+        assertEquals(List.of("CREATED", "CREATED", "CREATED"),
+                firstPage.getChanges().stream().map(OrderChangeDto::getType).toList());
+        assertEquals(List.of("UPDATED", "DELETED"),
+                secondPage.getChanges().stream().map(OrderChangeDto::getType).toList());
+        assertEquals(created.getId(), secondPage.getChanges().get(0).getOrderId());
+        assertTrue(secondPage.getChanges().get(0).getOrder().contains("\"status\":\"CONFIRMED\""),
+                secondPage.getChanges().get(0).getOrder());
+        // Payloads carry prices in major units, like the API
+        assertTrue(secondPage.getChanges().get(0).getOrder().contains("\"totalPrice\":" + (double) PRODUCTS_PER_ORDER),
+                secondPage.getChanges().get(0).getOrder());
+        assertEquals(0, orderService.getChanges(secondPage.getNextSince(), 3).getChanges().size());
+    }
+
+    private void publishChanges() {
+        OrderOutboxRelay relay = new OrderOutboxRelay(outboxRepository, new InMemoryOrderEventPublisher(100),
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        relay.relay();
+    }
+
+    private static OrderRequestDto orderRequest() {
+        List<ProductRequestDto> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS_PER_ORDER; i++) {
+            products.add(new ProductRequestDto(null, "product-" + i, 100L, 1));
+        }
+        return new OrderRequestDto("partner@example.com", "PENDING", PRODUCTS_PER_ORDER * 100L, products);
+    }
+
+    private static Order order(int index) {
+        Order order = new Order();
+        order.setCustomerName("user" + index + "@example.com");
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotalPrice(index * 100L);
+        order.setItemCount(PRODUCTS_PER_ORDER);
+        order.setTotalQuantity((long) PRODUCTS_PER_ORDER);
+        order.setIsDeleted(false);
+        for (int i = 0; i < PRODUCTS_PER_ORDER; i++) {
+            order.getProducts().add(new Product("product-" + i, 100L, 1, order));
+        }
+        order.getProducts().forEach(product -> product.setIsDeleted(false));
+        return order;
+    }
+}
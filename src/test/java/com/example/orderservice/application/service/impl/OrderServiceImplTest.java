@@ -0,0 +1,317 @@
+package com.example.orderservice.application.service.impl;
+
+import com.example.orderservice.application.cache.OrderCache;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.outbox.OrderOutbox;
+import com.example.orderservice.application.pagination.OrderCursor;
+import com.example.orderservice.domain.order.CustomerOrderSummary;
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderChangeType;
+import com.example.orderservice.domain.order.OrderOutboxEvent;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.infrastructure.mapper.OrderMapper;
+import com.example.orderservice.infrastructure.repository.CustomerOrderSummaryRepository;
+import com.example.orderservice.infrastructure.repository.OrderOutboxRepository;
+import com.example.orderservice.infrastructure.repository.OrderRepository;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplTest {
+
+    private static final String USER_EMAIL = "user1@example.com";
+
+    @Mock
+    private OrderRepository repository;
+
+    @Mock
+    private OrderMapper mapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private OrderCache orderCache;
+
+    @Mock
+    private CustomerOrderSummaryRepository summaryRepository;
+
+    @Mock
+    private OrderOutbox outbox;
+
+    @Mock
+    private OrderOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderService, "defaultLimit", 2);
+        ReflectionTestUtils.setField(orderService, "maxLimit", 3);
+        ReflectionTestUtils.setField(orderService, "feedDefaultLimit", 2);
+        ReflectionTestUtils.setField(orderService, "feedMaxLimit", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should return a next cursor when more orders follow the current page")
+    void getOrders_MoreRowsThanPageSize_ReturnsNextCursor() {
+        authenticate("Admin");
+        when(repository.findOrderIds(any(), eq(0L), eq(3))).thenReturn(List.of(1L, 2L, 3L));
+        when(repository.findAllWithProductsByIdIn(List.of(1L, 2L))).thenReturn(orders(1, 2));
+        when(mapper.toDto(any(Order.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        OrderPageResponseDto page = orderService.getOrders(null, null, null, null, null, true);
+
+        assertEquals(2, page.getOrders().size());
+        assertEquals(2L, page.getOrders().get(1).getId());
+        assertEquals(2L, OrderCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should resume after the cursor and return no cursor on the last page")
+    void getOrders_LastPage_ReturnsNullCursor() {
+        authenticate("User");
+        when(repository.findOrderIds(any(), eq(2L), eq(3))).thenReturn(List.of(3L));
+        when(repository.findAllWithProductsByIdIn(List.of(3L))).thenReturn(orders(3));
+        when(mapper.toDto(any(Order.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        OrderPageResponseDto page = orderService.getOrders(OrderStatus.PENDING, null, null,
+                OrderCursor.encode(2L), null, true);
+
+        assertEquals(1, page.getOrders().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should cap the requested page size at the configured maximum")
+    void getOrders_LimitAboveMaximum_IsCapped() {
+        authenticate("Admin");
+        when(repository.findOrderIds(any(), eq(0L), eq(4))).thenReturn(List.of());
+
+        orderService.getOrders(null, null, null, null, 1000, true);
+
+        verify(repository, times(1)).findOrderIds(any(), eq(0L), eq(4));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getOrders_MalformedCursor_ThrowsException() {
+        assertThrows(InvalidRequestException.class,
+                () -> orderService.getOrders(null, null, null, "not-a-cursor", null, true));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should hand every streamed order to the consumer and clear the persistence context")
+    void streamOrders_Admin_ConsumesAllOrders() {
+        authenticate("Admin");
+        when(repository.streamOrderIds(any())).thenReturn(Stream.of(1L, 2L, 3L));
+        when(repository.findAllWithProductsByIdIn(List.of(1L, 2L, 3L))).thenReturn(orders(1, 2, 3));
+        when(mapper.toDto(any(Order.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        List<OrderResponseDto> consumed = new ArrayList<>();
+        orderService.streamOrders(null, null, null, true, consumed::add);
+
+        assertEquals(3, consumed.size());
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("Should return the statistics aggregated by the repository")
+    void getOrderStats_ByCustomer_DelegatesToRepository() {
+        authenticate("Admin");
+        List<OrderStatsDto> stats = List.of(new OrderStatsDto());
+        when(repository.aggregateStats(any(), eq(true))).thenReturn(stats);
+
+        assertSame(stats, orderService.getOrderStats(true));
+    }
+
+    @Test
+    @DisplayName("Should serve a cached order without querying the repository")
+    void getOrderById_Cached_SkipsRepository() {
+        authenticate("User");
+        OrderResponseDto cached = toDto(orders(1).get(0));
+        when(orderCache.get(1L)).thenReturn(Optional.of(cached));
+
+        assertSame(cached, orderService.getOrderById(1L));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should load and cache an order on a cache miss")
+    void getOrderById_NotCached_LoadsAndCaches() {
+        authenticate("User");
+        Order order = orders(1).get(0);
+        when(orderCache.get(1L)).thenReturn(Optional.empty());
+        when(repository.findWithProductsByIdAndNotDeleted(1L)).thenReturn(Optional.of(order));
+        when(mapper.toDto(order)).thenReturn(toDto(order));
+
+        OrderResponseDto result = orderService.getOrderById(1L);
+
+        assertEquals(1L, result.getId());
+        verify(orderCache).put(result);
+    }
+
+    @Test
+    @DisplayName("Should apply the ownership check to cached orders")
+    void getOrderById_CachedOrderOfAnotherUser_ThrowsException() {
+        authenticate("User");
+        OrderResponseDto cached = toDto(orders(1).get(0));
+        cached.setCustomerName("user2@example.com");
+        when(orderCache.get(1L)).thenReturn(Optional.of(cached));
+
+        assertThrows(EntityNotFoundException.class, () -> orderService.getOrderById(1L));
+    }
+
+    @Test
+    @DisplayName("Should evict a deleted order from the cache with its committed version")
+    void deleteOrder_Owner_EvictsCachedOrder() {
+        authenticate("User");
+        Order order = orders(1).get(0);
+        order.setVersion(3L);
+        when(repository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(order));
+
+        orderService.deleteOrder(1L, null);
+
+        verify(orderCache).evict(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted order from the customer summary")
+    void deleteOrder_Owner_DecrementsSummary() {
+        authenticate("User");
+        when(repository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(orders(1).get(0)));
+
+        orderService.deleteOrder(1L, null);
+
+        verify(summaryRepository).increment(USER_EMAIL, "PENDING", -1, -1000L);
+        verify(summaryRepository, never()).insertIfAbsent(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should record a deleted order in the outbox")
+    void deleteOrder_Owner_RecordsChange() {
+        authenticate("User");
+        when(repository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(orders(1).get(0)));
+        when(mapper.toDto(any(Order.class))).thenAnswer(invocation -> toDto(invocation.getArgument(0)));
+
+        orderService.deleteOrder(1L, null);
+
+        verify(outbox).record(eq(OrderChangeType.DELETED), any(OrderResponseDto.class));
+    }
+
+    @Test
+    @DisplayName("Should cap the change feed limit and continue after the last returned change")
+    void getChanges_LimitAboveMaximum_IsCappedAndReturnsLastSequence() {
+        Instant now = Instant.now();
+        // The feed sequence follows the order of publication, not the IDs
+        when(outboxRepository.findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(7L, Limit.of(3)))
+                .thenReturn(List.of(
+                        new OrderOutboxEvent(12L, 1L, OrderChangeType.CREATED, "{}", now, now, 8L),
+                        new OrderOutboxEvent(10L, 1L, OrderChangeType.UPDATED, "{}", now, now, 9L)));
+
+        OrderChangeFeedDto feed = orderService.getChanges(7L, 100);
+
+        assertEquals(List.of(8L, 9L), feed.getChanges().stream().map(change -> change.getSequence()).toList());
+        assertEquals("UPDATED", feed.getChanges().get(1).getType());
+        assertEquals(9L, feed.getNextSince());
+    }
+
+    @Test
+    @DisplayName("Should keep the position of the change feed when no changes follow")
+    void getChanges_NoChanges_ReturnsSameSince() {
+        when(outboxRepository.findByFeedSequenceGreaterThanOrderByFeedSequenceAsc(7L, Limit.of(2)))
+                .thenReturn(List.of());
+
+        OrderChangeFeedDto feed = orderService.getChanges(7L, null);
+
+        assertEquals(0, feed.getChanges().size());
+        assertEquals(7L, feed.getNextSince());
+    }
+
+    @Test
+    @DisplayName("Should return the current user's summary even when another customer is requested")
+    void getCustomerSummary_User_ReturnsOwnSummary() {
+        authenticate("User");
+        when(summaryRepository.findByCustomerName(USER_EMAIL)).thenReturn(List.of(
+                new CustomerOrderSummary(USER_EMAIL, OrderStatus.PENDING, 2L, 3000L),
+                new CustomerOrderSummary(USER_EMAIL, OrderStatus.CANCELLED, 1L, 500L)));
+
+        CustomerOrderSummaryDto summary = orderService.getCustomerSummary("user2@example.com");
+
+        assertEquals(USER_EMAIL, summary.getCustomerName());
+        assertEquals(3, summary.getOrderCount());
+        assertEquals(0L, summary.getOrderCountByStatus().get("CONFIRMED"));
+        assertEquals(3000L, summary.getTotalSpend());
+    }
+
+    private void authenticate(String role) {
+        User principal = new User(USER_EMAIL, "", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static List<Order> orders(long... ids) {
+        return LongStream.of(ids).mapToObj(id -> {
+            Order order = new Order();
+            order.setId(id);
+            order.setCustomerName(USER_EMAIL);
+            order.setStatus(OrderStatus.PENDING);
+            order.setTotalPrice(1000L);
+            return order;
+        }).toList();
+    }
+
+    private static OrderResponseDto toDto(Order order) {
+        OrderResponseDto dto = new OrderResponseDto();
+        dto.setId(order.getId());
+        dto.setCustomerName(order.getCustomerName());
+        return dto;
+    }
+}
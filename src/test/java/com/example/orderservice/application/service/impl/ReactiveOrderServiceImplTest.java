@@ -0,0 +1,144 @@
+package com.example.orderservice.application.service.impl;
+
+import com.example.orderservice.application.cache.OrderCache;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.pagination.OrderCursor;
+import com.example.orderservice.infrastructure.repository.reactive.ReactiveOrderRepository;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceImplTest {
+
+    private static final String USER_EMAIL = "user1@example.com";
+
+    @Mock
+    private ReactiveOrderRepository repository;
+
+    @Mock
+    private OrderCache orderCache;
+
+    @InjectMocks
+    private ReactiveOrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderService, "defaultLimit", 2);
+        ReflectionTestUtils.setField(orderService, "maxLimit", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should return a next cursor when more orders follow the current page")
+    void getOrders_MoreRowsThanPageSize_ReturnsNextCursor() {
+        authenticate("Admin");
+        when(repository.findOrders(isNull(), isNull(), isNull(), isNull(), eq(0L), eq(3)))
+                .thenReturn(Flux.just(order(1L, USER_EMAIL), order(2L, USER_EMAIL), order(3L, USER_EMAIL)));
+
+        OrderPageResponseDto page = orderService.getOrders(null, null, null, null, null).block();
+
+        assertEquals(2, page.getOrders().size());
+        assertEquals(2L, OrderCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should restrict a user's listing to their own orders")
+    void getOrders_User_FiltersByCustomer() {
+        authenticate("User");
+        when(repository.findOrders(eq(USER_EMAIL), isNull(), isNull(), isNull(), eq(2L), eq(4)))
+                .thenReturn(Flux.just(order(3L, USER_EMAIL)));
+
+        OrderPageResponseDto page = orderService.getOrders(null, null, null, OrderCursor.encode(2L), 1000)
+                .block();
+
+        assertEquals(1, page.getOrders().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor before querying")
+    void getOrders_MalformedCursor_ThrowsException() {
+        assertThrows(InvalidRequestException.class,
+                () -> orderService.getOrders(null, null, null, "not-a-cursor", null));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached order without querying the database")
+    void getOrderById_Cached_SkipsRepository() {
+        authenticate("User");
+        OrderResponseDto cached = order(1L, USER_EMAIL);
+        when(orderCache.get(1L)).thenReturn(Optional.of(cached));
+
+        assertSame(cached, orderService.getOrderById(1L).block());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should cache an order loaded from the database")
+    void getOrderById_NotCached_LoadsAndCaches() {
+        authenticate("User");
+        OrderResponseDto loaded = order(1L, USER_EMAIL);
+        when(orderCache.get(1L)).thenReturn(Optional.empty());
+        when(repository.findById(1L)).thenReturn(Mono.just(loaded));
+
+        assertSame(loaded, orderService.getOrderById(1L).block());
+        verify(orderCache).put(loaded);
+    }
+
+    @Test
+    @DisplayName("Should not return another customer's order")
+    void getOrderById_OtherCustomer_ThrowsException() {
+        authenticate("User");
+        when(orderCache.get(1L)).thenReturn(Optional.empty());
+        when(repository.findById(1L)).thenReturn(Mono.just(order(1L, "user2@example.com")));
+
+        Mono<OrderResponseDto> order = orderService.getOrderById(1L);
+
+        assertThrows(EntityNotFoundException.class, order::block);
+    }
+
+    private void authenticate(String role) {
+        User principal = new User(USER_EMAIL, "", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static OrderResponseDto order(Long id, String customerName) {
+        return new OrderResponseDto(id, customerName, "PENDING", 1000L, 0, 0L, List.of(), 0L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.orderservice.infrastructure.cache;
+
+import com.example.orderservice.infrastructure.config.cache.CacheConfig;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaffeineOrderCacheTest {
+
+    private final StatsCounter stats = new ConcurrentStatsCounter();
+    private final CaffeineOrderCache orderCache = new CaffeineOrderCache(
+            new CacheConfig().cacheManager(10, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), stats), stats);
+
+    @Test
+    @DisplayName("Should not cache an order older than the version it was evicted at")
+    void put_OlderThanEvictedVersion_IsIgnored() {
+        orderCache.put(order(1L, 3L));
+        orderCache.evict(1L, 4L);
+        orderCache.put(order(1L, 3L));
+
+        assertTrue(orderCache.get(1L).isEmpty());
+
+        orderCache.put(order(1L, 4L));
+        orderCache.put(order(1L, 3L));
+
+        assertEquals(4L, orderCache.get(1L).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should count only lookups in the statistics, and an evicted order as a miss")
+    void get_EvictedOrder_CountsAsMiss() {
+        orderCache.put(order(1L, 3L));
+        orderCache.get(1L);
+        orderCache.evict(1L, 4L);
+        orderCache.get(1L);
+        orderCache.get(2L);
+        orderCache.put(order(1L, 3L));
+
+        CacheStats snapshot = stats.snapshot();
+        assertEquals(1, snapshot.hitCount());
+        assertEquals(2, snapshot.missCount());
+    }
+
+    private static OrderResponseDto order(Long id, Long version) {
+        OrderResponseDto order = new OrderResponseDto();
+        order.setId(id);
+        order.setVersion(version);
+        return order;
+    }
+}
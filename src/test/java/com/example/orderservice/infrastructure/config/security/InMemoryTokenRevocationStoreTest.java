@@ -0,0 +1,35 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTokenRevocationStoreTest {
+
+    private final InMemoryTokenRevocationStore store = new InMemoryTokenRevocationStore(3600L);
+
+    @Test
+    @DisplayName("Should accept a token issued in the same second as the revocation")
+    void isRevoked_TokenIssuedInSameSecond_IsNotRevoked() {
+        Instant revokedAt = Instant.parse("2024-05-01T10:15:30.700Z");
+        store.revokeTokensIssuedBefore(1L, revokedAt);
+
+        // The iat claim of a token issued at 10:15:30.900 holds 10:15:30
+        assertFalse(store.isRevoked(1L, Date.from(Instant.parse("2024-05-01T10:15:30Z"))));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued in an earlier second than the revocation")
+    void isRevoked_TokenIssuedInEarlierSecond_IsRevoked() {
+        store.revokeTokensIssuedBefore(1L, Instant.parse("2024-05-01T10:15:30.700Z"));
+
+        assertTrue(store.isRevoked(1L, Date.from(Instant.parse("2024-05-01T10:15:29Z"))));
+        assertTrue(store.isRevoked(1L, null));
+        assertFalse(store.isRevoked(2L, Date.from(Instant.parse("2024-05-01T10:15:29Z"))));
+    }
+}
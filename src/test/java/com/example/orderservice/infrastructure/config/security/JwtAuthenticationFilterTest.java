@@ -0,0 +1,95 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.domain.auth.Role;
+import com.example.orderservice.domain.auth.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtUserDetailsService userDetailsService;
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationStore tokenRevocationStore;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil("verysecureandlongsecretkeyforjwtorderserviceapp", 3600L, 100L);
+
+        tokenRevocationStore = new InMemoryTokenRevocationStore(3600L);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new JwtUserFactory(), tokenRevocationStore);
+        ReflectionTestUtils.setField(filter, "authenticationMode", JwtAuthenticationMode.CLAIMS);
+        ReflectionTestUtils.setField(filter, "revocationCheckEnabled", true);
+
+        Role role = new Role();
+        role.setName("Admin");
+        user = new User("John", "Doe", "admin1@example.com", "password", List.of(role));
+        user.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should build the principal from token claims without loading the user")
+    void doFilter_ClaimsMode_AuthenticatesWithoutDatabase() throws Exception {
+        filter.doFilter(request(jwtUtil.generateToken(user)), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        JwtUser principal = (JwtUser) authentication.getPrincipal();
+        assertEquals(1L, principal.getId());
+        assertEquals("admin1@example.com", principal.getUsername());
+        assertEquals("ROLE_Admin", authentication.getAuthorities().iterator().next().getAuthority());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before a revocation")
+    void doFilter_ClaimsModeRevokedToken_LeavesRequestUnauthenticated() throws Exception {
+        String token = jwtUtil.generateToken(user);
+        tokenRevocationStore.revokeTokensIssuedBefore(1L, Instant.now().plusSeconds(1));
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Should ignore invalid tokens")
+    void doFilter_InvalidToken_LeavesRequestUnauthenticated() throws Exception {
+        filter.doFilter(request("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.domain.auth.Role;
+import com.example.orderservice.domain.auth.User;
+import com.example.orderservice.infrastructure.config.cache.CacheConfig;
+import com.example.orderservice.infrastructure.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtUserDetailsServiceTest {
+
+    private static final String EMAIL = "user1@example.com";
+
+    @Autowired
+    private JwtUserDetailsService userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.PRINCIPALS).clear();
+
+        Role role = new Role();
+        role.setName("User");
+        User user = new User("Alice", "Brown", EMAIL, "password", List.of(role));
+        user.setId(3L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups of the same user from the cache")
+    void loadUserByUsername_RepeatedLookups_HitsDatabaseOnce() {
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+
+        assertSame(first, second);
+        assertEquals("ROLE_User", first.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should reload the user from the database after eviction")
+    void evictUser_CachedUser_ReloadsOnNextLookup() {
+        userDetailsService.loadUserByUsername(EMAIL);
+        userDetailsService.evictUser(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown users")
+    void loadUserByUsername_UnknownUser_IsNotCached() {
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("unknown@example.com"));
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("unknown@example.com"));
+
+        verify(userRepository, times(2)).findByEmail("unknown@example.com");
+    }
+}
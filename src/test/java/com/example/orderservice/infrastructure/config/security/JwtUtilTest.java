@@ -0,0 +1,75 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.domain.auth.Role;
+import com.example.orderservice.domain.auth.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "verysecureandlongsecretkeyforjwtorderserviceapp";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Role role = new Role();
+        role.setName("User");
+        user = new User("Alice", "Brown", "user1@example.com", "password", List.of(role));
+        user.setId(3L);
+    }
+
+    @Test
+    @DisplayName("Should return the claims of a valid token in one pass")
+    void verifyAndParse_ValidToken_ReturnsClaims() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, 0L);
+
+        Optional<Claims> claims = jwtUtil.verifyAndParse(jwtUtil.generateToken(user));
+
+        assertTrue(claims.isPresent());
+        assertEquals("user1@example.com", claims.get().getSubject());
+        assertEquals(3L, claims.get().get(JwtUtil.USER_ID_CLAIM, Long.class));
+        assertEquals(List.of("User"), claims.get().get(JwtUtil.ROLES_CLAIM, List.class));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with another key or malformed")
+    void verifyAndParse_InvalidToken_ReturnsEmpty() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, 100L);
+        JwtUtil otherIssuer = new JwtUtil(SECRET + "-other", 3600L, 100L);
+
+        assertFalse(jwtUtil.verifyAndParse(otherIssuer.generateToken(user)).isPresent());
+        assertFalse(jwtUtil.verifyAndParse("not-a-token").isPresent());
+        assertFalse(jwtUtil.validateToken(""));
+    }
+
+    @Test
+    @DisplayName("Should reject expired tokens")
+    void verifyAndParse_ExpiredToken_ReturnsEmpty() {
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -60L, 100L);
+
+        assertFalse(expiredIssuer.verifyAndParse(expiredIssuer.generateToken(user)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should serve a recently verified token from the cache")
+    void verifyAndParse_CacheEnabled_ReusesVerifiedClaims() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3600L, 100L);
+        String token = jwtUtil.generateToken(user);
+
+        Claims first = jwtUtil.verifyAndParse(token).orElseThrow();
+        Claims second = jwtUtil.verifyAndParse(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.application.exception.LoginRateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginRateLimiterTest {
+
+    private static final String CLIENT = "192.0.2.1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginRateLimiter rateLimiter = new LoginRateLimiter(meterRegistry, 2, 3, Duration.ofMinutes(1), 100);
+
+    @Test
+    @DisplayName("Should reject attempts once the same email has failed too often, regardless of case")
+    void checkAllowed_FailureLimitReached_ThrowsException() {
+        rateLimiter.recordFailure("user1@example.com", CLIENT);
+        rateLimiter.checkAllowed("user1@example.com", CLIENT);
+        rateLimiter.recordFailure("USER1@example.com", CLIENT);
+
+        LoginRateLimitExceededException exception = assertThrows(LoginRateLimitExceededException.class,
+                () -> rateLimiter.checkAllowed("user1@example.com", CLIENT));
+
+        assertEquals(Duration.ofMinutes(1), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.login.rate.limited").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should never limit an email whose logins succeed")
+    void checkAllowed_SuccessfulLogins_AreNeverLimited() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.checkAllowed("user1@example.com", CLIENT);
+            rateLimiter.reset("user1@example.com", CLIENT);
+        }
+
+        rateLimiter.recordFailure("user1@example.com", CLIENT);
+        rateLimiter.reset("user1@example.com", CLIENT);
+        rateLimiter.recordFailure("user1@example.com", CLIENT);
+
+        assertDoesNotThrow(() -> rateLimiter.checkAllowed("user1@example.com", CLIENT));
+    }
+
+    @Test
+    @DisplayName("Should count failures per email and client address")
+    void checkAllowed_DifferentEmailsOrClients_AreLimitedIndependently() {
+        rateLimiter.recordFailure("user1@example.com", CLIENT);
+        rateLimiter.recordFailure("user1@example.com", CLIENT);
+
+        assertDoesNotThrow(() -> rateLimiter.checkAllowed("user2@example.com", CLIENT));
+        assertDoesNotThrow(() -> rateLimiter.checkAllowed("user1@example.com", "198.51.100.7"));
+    }
+
+    @Test
+    @DisplayName("Should limit an email whose failures come from rotating client addresses")
+    void checkAllowed_FailuresFromRotatingClients_ReachEmailLimit() {
+        rateLimiter.recordFailure("user1@example.com", "192.0.2.1");
+        rateLimiter.recordFailure("user1@example.com", "192.0.2.2");
+        rateLimiter.recordFailure("user1@example.com", "192.0.2.3");
+
+        assertThrows(LoginRateLimitExceededException.class,
+                () -> rateLimiter.checkAllowed("user1@example.com", "192.0.2.4"));
+        assertDoesNotThrow(() -> rateLimiter.checkAllowed("user2@example.com", "192.0.2.4"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.orderservice.infrastructure.config.security;
+
+import com.example.orderservice.application.exception.PasswordVerificationUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordVerifierTest {
+
+    private final PasswordEncoder encoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        verifier.destroy();
+    }
+
+    @Test
+    @DisplayName("Should verify the password on the worker pool and record the verification time")
+    void matches_ValidPassword_ReturnsTrue() {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        when(encoder.matches("secret", "hash")).thenReturn(true);
+
+        assertTrue(verifier.matches("secret", "hash"));
+        assertEquals(1, meterRegistry.get("auth.password.verification").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject a check immediately when all workers are busy and the queue is full")
+    void matches_PoolSaturated_ThrowsException() throws Exception {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        // One check occupies the only worker, the next one fills the queue
+        CompletableFuture.runAsync(() -> verifier.matches("a", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> verifier.matches("b", "hash"));
+        awaitQueued(1);
+
+        assertThrows(PasswordVerificationUnavailableException.class, () -> verifier.matches("c", "hash"));
+        assertEquals(1.0, meterRegistry.get("auth.password.verification.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should give up on a check that waits longer than the timeout")
+    void matches_Timeout_ThrowsException() {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, Duration.ofMillis(50));
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+
+        assertThrows(PasswordVerificationUnavailableException.class, () -> verifier.matches("a", "hash"));
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").gauge().value() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
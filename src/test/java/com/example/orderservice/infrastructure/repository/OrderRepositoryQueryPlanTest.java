@@ -0,0 +1,121 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the query plans of the order listing queries against regressions.
+ * <p>
+ * Runs the Liquibase changelog against a real PostgreSQL, calls the repository queries and checks the plans of
+ * the SQL Hibernate generated for them with {@code EXPLAIN}, so a change to the Criteria queries or the
+ * specifications that no longer matches the indexes fails here. Each statement is prepared and explained with
+ * a generic plan, which does not depend on the bound values. Sequential scans are disabled for the session, so
+ * the planner picks an index whenever one is usable even though the tables are nearly empty.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.orderservice.infrastructure.repository.OrderRepositoryTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class OrderRepositoryQueryPlanTest {
+
+    private static final String CUSTOMER = "user1@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Local to the test transaction, which is rolled back afterwards
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        OrderRepositoryTest.CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should filter a customer's orders through the partial customer index")
+    void findOrderIds_CustomerWithAllFilters_UsesCustomerIndex() {
+        repository.findOrderIds(OrderSpecifications.byFilters(CUSTOMER, OrderStatus.PENDING, 1_000L, 10_000L),
+                100L, 51);
+
+        String plan = explainCapturedStatement();
+
+        assertTrue(plan.contains("idx_orders_customer_status_price"), plan);
+    }
+
+    @Test
+    @DisplayName("Should filter a customer's orders by customer only through the partial customer index")
+    void findOrderIds_CustomerOnly_UsesCustomerIndex() {
+        repository.findOrderIds(OrderSpecifications.byFilters(CUSTOMER, null, null, null), 0L, 51);
+
+        String plan = explainCapturedStatement();
+
+        assertTrue(plan.contains("idx_orders_customer_status_price"), plan);
+    }
+
+    @Test
+    @DisplayName("Should load the products of a page of orders through the order ID index")
+    void findAllWithProductsByIdIn_UsesProductOrderIndex() {
+        repository.findAllWithProductsByIdIn(List.of(1L, 2L, 3L));
+
+        String plan = explainCapturedStatement();
+
+        assertTrue(plan.contains("idx_products_order_id"), plan);
+    }
+
+    /**
+     * Explains the single statement Hibernate generated since the last reset of the captured statements.
+     * <p>
+     * The statement is prepared with its JDBC placeholders turned into numbered parameters and explained with
+     * {@code NULL} arguments; the generic plan forced in {@link #setUp()} ignores them.
+     *
+     * @return the plan, one line per plan node.
+     */
+    private String explainCapturedStatement() {
+        List<String> statements = OrderRepositoryTest.CapturingStatementInspector.STATEMENTS;
+        assertEquals(1, statements.size(), statements::toString);
+
+        StringBuilder sql = new StringBuilder();
+        int parameters = 0;
+        for (char c : statements.get(0).toCharArray()) {
+            if (c == '?') {
+                sql.append('$').append(++parameters);
+            } else {
+                sql.append(c);
+            }
+        }
+        jdbcTemplate.execute("PREPARE plan_check AS " + sql);
+        try {
+            String arguments = parameters == 0
+                    ? ""
+                    : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+            List<String> lines = jdbcTemplate.queryForList("EXPLAIN EXECUTE plan_check" + arguments, String.class);
+            return String.join("\n", lines);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE plan_check");
+        }
+    }
+}
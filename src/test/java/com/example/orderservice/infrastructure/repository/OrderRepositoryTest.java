@@ -0,0 +1,208 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.domain.product.Product;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.orderservice.infrastructure.repository.OrderRepositoryTest$CapturingStatementInspector")
+@ActiveProfiles({"test", "h2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OrderRepositoryTest {
+
+    private static final String CUSTOMER = "user1@example.com";
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        orders = new ArrayList<>();
+        int index = 0;
+        for (String customer : List.of(CUSTOMER, "user2@example.com")) {
+            for (OrderStatus status : OrderStatus.values()) {
+                for (long price : new long[]{500, 5_000, 50_000}) {
+                    orders.add(entityManager.persist(order(customer, status, price, index++ % 7 == 0)));
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    static Stream<Arguments> filterPermutations() {
+        List<Arguments> permutations = new ArrayList<>();
+        for (OrderStatus status : new OrderStatus[]{null, OrderStatus.PENDING}) {
+            for (Long minPrice : new Long[]{null, 1_000L}) {
+                for (Long maxPrice : new Long[]{null, 10_000L}) {
+                    permutations.add(Arguments.of(status, minPrice, maxPrice));
+                }
+            }
+        }
+        return permutations.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterPermutations")
+    @DisplayName("Should return exactly the matching orders and emit only the supplied predicates")
+    void findOrderIds_AnyFilterPermutation_MatchesOnlySuppliedFilters(OrderStatus status, Long minPrice,
+                                                                     Long maxPrice) {
+        List<Long> ids = repository.findOrderIds(
+                OrderSpecifications.byFilters(CUSTOMER, status, minPrice, maxPrice), 0L, 100);
+
+        List<Long> expected = orders.stream()
+                .filter(o -> !o.getIsDeleted() && o.getCustomerName().equals(CUSTOMER))
+                .filter(o -> status == null || o.getStatus() == status)
+                .filter(o -> minPrice == null || o.getTotalPrice() >= minPrice)
+                .filter(o -> maxPrice == null || o.getTotalPrice() <= maxPrice)
+                .map(Order::getId)
+                .sorted()
+                .toList();
+        assertEquals(expected, ids);
+
+        String sql = CapturingStatementInspector.STATEMENTS.get(0).toLowerCase();
+        assertFalse(sql.contains("is null"), sql);
+        assertEquals(status != null, sql.contains("status"), sql);
+        assertEquals(minPrice != null, sql.contains(">="), sql);
+        assertEquals(maxPrice != null, sql.contains("<="), sql);
+    }
+
+    @Test
+    @DisplayName("Should continue after the given ID and respect the limit")
+    void findOrderIds_AfterIdAndLimit_ReturnsNextPage() {
+        List<Long> all = repository.findOrderIds(OrderSpecifications.byFilters(null, null, null, null), 0L, 100);
+
+        List<Long> page = repository.findOrderIds(OrderSpecifications.byFilters(null, null, null, null),
+                all.get(1), 2);
+
+        assertEquals(all.subList(2, 4), page);
+    }
+
+    @Test
+    @DisplayName("Should stream the IDs of all matching orders in ascending order")
+    void streamOrderIds_ReturnsSameIdsAsFind() {
+        List<Long> expected = repository.findOrderIds(
+                OrderSpecifications.byFilters(null, OrderStatus.CONFIRMED, null, null), 0L, 100);
+
+        try (Stream<Long> ids = repository.streamOrderIds(
+                OrderSpecifications.byFilters(null, OrderStatus.CONFIRMED, null, null))) {
+            assertEquals(expected, ids.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should aggregate a customer's orders by status in grouped queries")
+    void aggregateStats_Customer_GroupsByStatus() {
+        Order pending = entityManager.find(Order.class, orders.stream()
+                .filter(o -> !o.getIsDeleted() && o.getCustomerName().equals(CUSTOMER)
+                        && o.getStatus() == OrderStatus.PENDING)
+                .findFirst().orElseThrow().getId());
+        entityManager.persist(product(pending, 2));
+        entityManager.persist(product(pending, 5));
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+
+        List<OrderStatsDto> stats = repository.aggregateStats(
+                OrderSpecifications.byFilters(CUSTOMER, null, null, null), false);
+
+        assertEquals(OrderStatus.values().length, stats.size());
+        for (OrderStatsDto group : stats) {
+            List<Long> prices = orders.stream()
+                    .filter(o -> !o.getIsDeleted() && o.getCustomerName().equals(CUSTOMER)
+                            && o.getStatus().name().equals(group.getStatus()))
+                    .map(Order::getTotalPrice)
+                    .toList();
+            assertNull(group.getCustomerName());
+            assertEquals(prices.size(), group.getOrderCount());
+            assertEquals(prices.stream().mapToLong(Long::longValue).sum(), group.getTotalPriceSum());
+            assertEquals(prices.stream().mapToLong(Long::longValue).max().orElseThrow(), group.getTotalPriceMax());
+        }
+        OrderStatsDto pendingStats = stats.stream()
+                .filter(group -> group.getStatus().equals("PENDING"))
+                .findFirst().orElseThrow();
+        assertEquals(2, pendingStats.getProductCount());
+        assertEquals(7L, pendingStats.getQuantitySum());
+        assertEquals(2, pendingStats.getQuantityMin());
+        assertEquals(5, pendingStats.getQuantityMax());
+
+        assertEquals(2, CapturingStatementInspector.STATEMENTS.size());
+        CapturingStatementInspector.STATEMENTS.forEach(sql -> assertTrue(sql.contains("group by"), sql));
+    }
+
+    @Test
+    @DisplayName("Should group the statistics by customer when requested")
+    void aggregateStats_ByCustomer_GroupsByStatusAndCustomer() {
+        List<OrderStatsDto> stats = repository.aggregateStats(
+                OrderSpecifications.byFilters(null, null, null, null), true);
+
+        assertEquals(2 * OrderStatus.values().length, stats.size());
+        long nonDeleted = orders.stream().filter(o -> !o.getIsDeleted()).count();
+        assertEquals(nonDeleted, stats.stream().mapToLong(OrderStatsDto::getOrderCount).sum());
+        assertEquals(CUSTOMER, stats.get(0).getCustomerName());
+        assertEquals(0, stats.get(0).getProductCount());
+        assertNull(stats.get(0).getQuantitySum());
+    }
+
+    private static Product product(Order order, int quantity) {
+        Product product = new Product();
+        product.setName("Product");
+        product.setPrice(100L);
+        product.setQuantity(quantity);
+        product.setOrder(order);
+        product.setIsDeleted(false);
+        return product;
+    }
+
+    private static Order order(String customer, OrderStatus status, long price, boolean deleted) {
+        Order order = new Order();
+        order.setCustomerName(customer);
+        order.setStatus(status);
+        order.setTotalPrice(price);
+        order.setIsDeleted(deleted);
+        return order;
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares, so tests can inspect the generated predicates.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
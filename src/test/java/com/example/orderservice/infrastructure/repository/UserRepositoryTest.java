@@ -0,0 +1,80 @@
+package com.example.orderservice.infrastructure.repository;
+
+import com.example.orderservice.domain.auth.Role;
+import com.example.orderservice.domain.auth.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles({"test", "h2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryTest {
+
+    private static final String EMAIL = "cached-roles@example.com";
+
+    @Autowired
+    private UserRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Committed up front: read-write cache regions do not cache rows of still open transactions
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("SELECT u FROM User u WHERE u.email = :email", User.class)
+                .setParameter("email", EMAIL)
+                .getResultList()
+                .forEach(entityManager::remove);
+        Role role = new Role();
+        role.setName("User");
+        role.setIsDeleted(false);
+        entityManager.persist(role);
+
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setPassword("password");
+        user.setIsDeleted(false);
+        user.setRoles(List.of(role));
+        entityManager.persist(user);
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("Should load the roles of a user from the second-level cache once they have been read")
+    void findByEmail_RolesAlreadyLoaded_ServesRolesFromCache() {
+        // The first load reads the roles from the database and puts them into the cache
+        repository.findByEmail(EMAIL).orElseThrow();
+        statistics.clear();
+
+        User user = repository.findByEmail(EMAIL).orElseThrow();
+
+        assertEquals("User", user.getRoles().get(0).getName());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        // Only the user itself is queried; the role IDs and the roles come from the cache
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.orderservice.infrastructure.repository.reactive;
+
+import com.example.orderservice.domain.order.OrderStatus;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.product.ProductResponseDto;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the R2DBC order queries against an in-memory H2 database in PostgreSQL mode.
+ */
+class ReactiveOrderRepositoryTest {
+
+    private static final String CUSTOMER = "user1@example.com";
+
+    private DatabaseClient databaseClient;
+
+    private ReactiveOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive-orders;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        repository = new ReactiveOrderRepository(databaseClient);
+
+        execute("DROP TABLE IF EXISTS products");
+        execute("DROP TABLE IF EXISTS orders");
+        execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, customer_name VARCHAR(255) NOT NULL, " +
+                "status VARCHAR(255) NOT NULL, total_price BIGINT NOT NULL, item_count INTEGER NOT NULL, " +
+                "total_quantity BIGINT NOT NULL, is_deleted BOOLEAN, " +
+                "version BIGINT DEFAULT 0 NOT NULL)");
+        execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                "price BIGINT NOT NULL, quantity INTEGER NOT NULL, order_id BIGINT NOT NULL, " +
+                "is_deleted BOOLEAN)");
+
+        execute("INSERT INTO orders VALUES (1, '" + CUSTOMER + "', 'PENDING', 3000, 2, 2, false, 0)");
+        execute("INSERT INTO orders VALUES (2, '" + CUSTOMER + "', 'CONFIRMED', 50000, 1, 1, false, 0)");
+        execute("INSERT INTO orders VALUES (3, 'user2@example.com', 'PENDING', 4000, 1, 1, false, 0)");
+        execute("INSERT INTO orders VALUES (4, '" + CUSTOMER + "', 'PENDING', 6000, 0, 0, true, 0)");
+        execute("INSERT INTO orders VALUES (5, '" + CUSTOMER + "', 'PENDING', 0, 0, 0, false, 0)");
+        execute("INSERT INTO products VALUES (11, 'Pen', 1000, 1, 1, false)");
+        execute("INSERT INTO products VALUES (12, 'Book', 2000, 1, 1, false)");
+        execute("INSERT INTO products VALUES (21, 'Laptop', 50000, 1, 2, false)");
+        execute("INSERT INTO products VALUES (31, 'Cup', 4000, 1, 3, false)");
+    }
+
+    @Test
+    @DisplayName("Should fold the joined product rows into one order each")
+    void streamOrders_AllCustomers_GroupsProductsByOrder() {
+        List<OrderResponseDto> orders = repository.streamOrders(null, null, null, null).collectList().block();
+
+        assertEquals(List.of(1L, 2L, 3L, 5L), orders.stream().map(OrderResponseDto::getId).toList());
+        assertEquals(List.of("Pen", "Book"),
+                orders.get(0).getProducts().stream().map(ProductResponseDto::getName).toList());
+        assertEquals(3000L, orders.get(0).getTotalPrice());
+        assertEquals(2, orders.get(0).getItemCount());
+        assertEquals(2L, orders.get(0).getTotalQuantity());
+        assertTrue(orders.get(3).getProducts().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply only the supplied filters")
+    void streamOrders_CustomerStatusAndPrice_ReturnsMatchingOrders() {
+        List<OrderResponseDto> orders = repository.streamOrders(CUSTOMER, OrderStatus.PENDING, 1_000L, 10_000L)
+                .collectList().block();
+
+        assertEquals(List.of(1L), orders.stream().map(OrderResponseDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should return complete orders when the subscriber cancels early")
+    void streamOrders_Take_ReturnsCompleteOrders() {
+        List<OrderResponseDto> orders = repository.streamOrders(null, null, null, null).take(1)
+                .collectList().block();
+
+        assertEquals(1, orders.size());
+        assertEquals(2, orders.get(0).getProducts().size());
+    }
+
+    @Test
+    @DisplayName("Should return a page of orders after the given ID")
+    void findOrders_AfterIdWithLimit_ReturnsPage() {
+        List<OrderResponseDto> orders = repository.findOrders(CUSTOMER, null, null, null, 1L, 1)
+                .collectList().block();
+
+        assertEquals(List.of(2L), orders.stream().map(OrderResponseDto::getId).toList());
+        assertEquals(1, orders.get(0).getProducts().size());
+    }
+
+    @Test
+    @DisplayName("Should find a non-deleted order with its products")
+    void findById_ExistingOrder_ReturnsOrder() {
+        OrderResponseDto order = repository.findById(1L).block();
+
+        assertEquals(CUSTOMER, order.getCustomerName());
+        assertEquals("PENDING", order.getStatus());
+        assertEquals(2, order.getProducts().size());
+    }
+
+    @Test
+    @DisplayName("Should not find a deleted order")
+    void findById_DeletedOrder_ReturnsEmpty() {
+        assertNull(repository.findById(4L).block());
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.orderservice.infrastructure.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.MimeType;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ResponseCompressionFilterTest {
+
+    private static final byte[] LARGE_BODY = ("[" + "{\"id\":1,\"name\":\"Product\"},".repeat(200) + "{}]")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCompressionFilter(DataSize.ofKilobytes(2),
+                List.of("application/json", "application/x-ndjson"), 6);
+    }
+
+    @Test
+    @DisplayName("Should gzip a large JSON body and mark its strong ETag as a gzip representation")
+    void doFilter_LargeJson_CompressesAndSuffixesETag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("gzip, deflate, br"), response, chain("application/json", "\"3\"", LARGE_BODY));
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("\"3-gzip\"", response.getHeader("ETag"));
+        assertTrue(response.getHeaders("Vary").contains("Accept-Encoding"));
+        assertTrue(response.getContentAsByteArray().length < LARGE_BODY.length / 4);
+        assertArrayEquals(LARGE_BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should send small bodies, other content types and bodies for clients without gzip as is")
+    void doFilter_NotEligible_SendsIdentity() throws Exception {
+        byte[] smallBody = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse small = new MockHttpServletResponse();
+        MockHttpServletResponse binary = new MockHttpServletResponse();
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+
+        filter.doFilter(request("gzip"), small, chain("application/json", "\"3\"", smallBody));
+        filter.doFilter(request("gzip"), binary, chain("application/octet-stream", null, LARGE_BODY));
+        filter.doFilter(request("gzip;q=0, identity"), refused, chain("application/json", "\"3\"", LARGE_BODY));
+
+        assertNull(small.getHeader("Content-Encoding"));
+        assertEquals("\"3\"", small.getHeader("ETag"));
+        assertEquals(smallBody.length, small.getContentLength());
+        assertArrayEquals(smallBody, small.getContentAsByteArray());
+        assertNull(binary.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE_BODY, binary.getContentAsByteArray());
+        assertNull(refused.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE_BODY, refused.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("Should validate a gzip ETag against the resource's ETag and answer 304 with the gzip ETag")
+    void doFilter_GzipETagInIfNoneMatch_StripsSuffixAndKeepsItOn304() throws Exception {
+        MockHttpServletRequest request = request("gzip");
+        request.addHeader("If-None-Match", "\"3-gzip\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                assertEquals("\"3\"", req.getHeader("If-None-Match"));
+                res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                res.setHeader("ETag", "\"3\"");
+            }
+        }));
+
+        assertEquals(304, response.getStatus());
+        assertEquals("\"3-gzip\"", response.getHeader("ETag"));
+        assertFalse(response.containsHeader("Content-Encoding"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Should hand a body written with non-blocking I/O to the wrapped stream uncompressed")
+    void doFilter_WriteListener_DelegatesAndSendsIdentity() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<WriteListener> registered = new AtomicReference<>();
+        HttpServletResponse nonBlockingResponse = new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() throws IOException {
+                ServletOutputStream out = response.getOutputStream();
+                return new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return registered.get() != null;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        registered.set(writeListener);
+                    }
+                };
+            }
+        };
+        WriteListener listener = mock(WriteListener.class);
+
+        filter.doFilter(request("gzip"), nonBlockingResponse, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                res.setContentType("application/json");
+                res.setHeader("ETag", "\"3\"");
+                res.getOutputStream().setWriteListener(listener);
+                assertTrue(res.getOutputStream().isReady());
+                res.getOutputStream().write(LARGE_BODY);
+            }
+        }));
+
+        assertSame(listener, registered.get());
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("\"3\"", response.getHeader("ETag"));
+        assertArrayEquals(LARGE_BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("Should not start a body written by another thread before the request thread has left the chain")
+    void write_OtherThreadBeforeRelease_KeepsHeadersUntouched() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType("application/json");
+        CompressingResponseWrapper wrapper = new CompressingResponseWrapper(response, 2048,
+                Set.of(MimeType.valueOf("application/json")), 6, false);
+        int half = LARGE_BODY.length / 2;
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                wrapper.getOutputStream().write(LARGE_BODY, 0, half);
+                wrapper.getOutputStream().flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        assertFalse(response.containsHeader("Content-Encoding"));
+        assertFalse(response.containsHeader("Vary"));
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        wrapper.releaseToAsyncWriter();
+        CompletableFuture.runAsync(() -> {
+            try {
+                wrapper.getOutputStream().write(LARGE_BODY, half, LARGE_BODY.length - half);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).get(10, TimeUnit.SECONDS);
+        wrapper.finish();
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertArrayEquals(LARGE_BODY, gunzip(response.getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("Should accept gzip through a wildcard and refuse it when explicitly excluded")
+    void acceptsGzip_QualityValues_AreHonoured() {
+        assertTrue(ResponseCompressionFilter.acceptsGzip(request("*")));
+        assertTrue(ResponseCompressionFilter.acceptsGzip(request("br;q=1.0, gzip;q=0.5")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(request("*, gzip;q=0")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(request("br, zstd")));
+        assertFalse(ResponseCompressionFilter.acceptsGzip(new MockHttpServletRequest("GET", "/orders")));
+    }
+
+    private static MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        return request;
+    }
+
+    private static MockFilterChain chain(String contentType, String eTag, byte[] body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                res.setContentType(contentType);
+                if (eTag != null) {
+                    res.setHeader("ETag", eTag);
+                }
+                // Written in pieces and flushed like the message converters do
+                res.getOutputStream().write(body, 0, body.length / 2);
+                res.getOutputStream().write(body, body.length / 2, body.length - body.length / 2);
+                res.getOutputStream().flush();
+            }
+        });
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
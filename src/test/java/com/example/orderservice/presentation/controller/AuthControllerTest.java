@@ -1,5 +1,7 @@
 package com.example.orderservice.presentation.controller;
 
+import com.example.orderservice.application.exception.LoginRateLimitExceededException;
+import com.example.orderservice.application.exception.PasswordVerificationUnavailableException;
 import com.example.orderservice.application.service.AuthService;
 import com.example.orderservice.presentation.dto.auth.AuthenticateDto;
 import com.example.orderservice.presentation.dto.auth.AuthenticateResponseDto;
@@ -21,6 +23,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -29,6 +33,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,14 +66,14 @@ class AuthControllerTest {
     @DisplayName("Should return JWT token when login is successful")
     void login_Success_ReturnsToken() throws Exception {
         ArgumentCaptor<AuthenticateDto> captor = ArgumentCaptor.forClass(AuthenticateDto.class);
-        when(authService.login(Mockito.any(AuthenticateDto.class))).thenReturn(validResponseDto);
+        when(authService.login(Mockito.any(AuthenticateDto.class), Mockito.any())).thenReturn(validResponseDto);
 
         mockMvc.perform(post("/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(ow.writeValueAsString(validAuthenticateDto)))
                 .andExpect(status().isOk());
 
-        verify(authService, times(1)).login(captor.capture());
+        verify(authService, times(1)).login(captor.capture(), Mockito.eq("127.0.0.1"));
         AuthenticateDto capturedDto = captor.getValue();
         assertEquals(validAuthenticateDto.getEmail(), capturedDto.getEmail());
         assertEquals(validAuthenticateDto.getPassword(), capturedDto.getPassword());
@@ -91,7 +96,7 @@ class AuthControllerTest {
     @Test
     @DisplayName("Should return 401 when credentials are invalid")
     void login_InvalidCredentials_ReturnsUnauthorized() throws Exception {
-        when(authService.login(any())).thenThrow(new BadCredentialsException("Invalid credentials"));
+        when(authService.login(any(), any())).thenThrow(new BadCredentialsException("Invalid credentials"));
 
         mockMvc.perform(post("/login")
                         .with(csrf())
@@ -100,4 +105,30 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.error").value("Invalid credentials"));
     }
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After when the login rate limit is exceeded")
+    void login_RateLimited_ReturnsTooManyRequests() throws Exception {
+        when(authService.login(any(AuthenticateDto.class), any()))
+                .thenThrow(new LoginRateLimitExceededException(Duration.ofMinutes(1)));
+
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ow.writeValueAsString(validAuthenticateDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"));
+    }
+
+    @Test
+    @DisplayName("Should return 503 when password verification is saturated")
+    void login_VerificationSaturated_ReturnsServiceUnavailable() throws Exception {
+        when(authService.login(any(AuthenticateDto.class), any()))
+                .thenThrow(new PasswordVerificationUnavailableException("saturated", Duration.ofSeconds(2)));
+
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ow.writeValueAsString(validAuthenticateDto)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
 }
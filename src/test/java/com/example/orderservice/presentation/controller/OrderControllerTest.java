@@ -0,0 +1,672 @@
+package com.example.orderservice.presentation.controller;
+
+import com.example.orderservice.application.exception.InvalidOrderException;
+import com.example.orderservice.application.exception.InvalidRequestException;
+import com.example.orderservice.application.exception.OrderVersionMismatchException;
+import com.example.orderservice.application.service.OrderService;
+import com.example.orderservice.domain.order.Order;
+import com.example.orderservice.presentation.dto.order.CustomerOrderSummaryDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchErrorDto;
+import com.example.orderservice.presentation.dto.order.OrderBatchResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeDto;
+import com.example.orderservice.presentation.dto.order.OrderChangeFeedDto;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderStatsDto;
+import com.example.orderservice.presentation.dto.product.ProductResponseDto;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class OrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String ORDER_REQUEST = "{\"customerName\": \"user1@example.com\", \"status\": \"PENDING\", "
+            + "\"totalPrice\": 10, \"products\": [{\"name\": \"Pen\", \"price\": 10, \"quantity\": 1}]}";
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("Should return a page of orders with the next cursor")
+    void getOrders_ReturnsPageWithCursor() throws Exception {
+        OrderPageResponseDto page = new OrderPageResponseDto(List.of(order(1L), order(2L)), "next-token");
+        when(orderService.getOrders(isNull(), isNull(), isNull(), eq("token"), eq(2), eq(true))).thenReturn(page);
+
+        mockMvc.perform(get("/orders")
+                        .param("cursor", "token")
+                        .param("limit", "2")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated page request with 304 while its orders are unchanged")
+    void getOrders_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        when(orderService.getOrders(isNull(), isNull(), isNull(), isNull(), isNull(), eq(true)))
+                .thenReturn(new OrderPageResponseDto(List.of(order(1L), order(2L)), null));
+
+        String eTag = mockMvc.perform(get("/orders")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/orders")
+                        .header("If-None-Match", eTag)
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isNotModified());
+
+        OrderResponseDto changed = order(2L);
+        changed.setVersion(1L);
+        when(orderService.getOrders(isNull(), isNull(), isNull(), isNull(), isNull(), eq(true)))
+                .thenReturn(new OrderPageResponseDto(List.of(order(1L), changed), null));
+        mockMvc.perform(get("/orders")
+                        .header("If-None-Match", eTag)
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should gzip large order responses for clients that accept it")
+    void getOrderById_AcceptsGzip_ReturnsCompressedBody() throws Exception {
+        OrderResponseDto order = order(1L);
+        order.setProducts(IntStream.range(0, 200)
+                .mapToObj(i -> new ProductResponseDto((long) i, "Product " + i, 1099L, 1))
+                .toList());
+        when(orderService.getOrderById(1L)).thenReturn(order);
+
+        MvcResult result = mockMvc.perform(get("/orders/1")
+                        .header("Accept-Encoding", "gzip")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("ETag", "\"0-gzip\""))
+                .andReturn();
+
+        try (GZIPInputStream body = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertTrue(new String(body.readAllBytes(), StandardCharsets.UTF_8).contains("\"Product 199\""));
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept and return an order as CBOR")
+    void createOrder_CborBody_ReturnsCborOrder() throws Exception {
+        CBORMapper cbor = new CBORMapper();
+        when(orderService.createOrder(argThat(request -> request.getProducts().get(0).getPrice() == 1000L)))
+                .thenReturn(order(1L));
+
+        MvcResult result = mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(new ObjectMapper().readTree(ORDER_REQUEST)))
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn();
+
+        OrderResponseDto order = cbor.readValue(result.getResponse().getContentAsByteArray(), OrderResponseDto.class);
+        assertEquals(1L, order.getId());
+        assertEquals(1000L, order.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("Should read decimal prices as exact minor units and write them back in major units")
+    void createOrder_DecimalPrices_ConvertsToMinorUnits() throws Exception {
+        OrderResponseDto created = order(1L);
+        created.setTotalPrice(1099L);
+        // Amounts beyond the exact range of a double are written exactly as well
+        created.setProducts(List.of(new ProductResponseDto(1L, "Pen", 1099L, 1),
+                new ProductResponseDto(2L, "Ink", 9_007_199_254_740_993L, 1)));
+        when(orderService.createOrder(argThat(request -> request.getTotalPrice() == 1099L
+                && request.getProducts().get(0).getPrice() == 1099L))).thenReturn(created);
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST.replace("10", "10.99"))
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"totalPrice\":10.99")))
+                .andExpect(jsonPath("$.products[0].price").value(10.99))
+                .andExpect(content().string(containsString("\"price\":90071992547409.93")));
+    }
+
+    @Test
+    @DisplayName("Should reject prices with fractions of a cent")
+    void createOrder_SubCentPrice_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST.replace("\"price\": 10", "\"price\": 10.001"))
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Malformed request body"));
+    }
+
+    @Test
+    @DisplayName("Should reject a total price that does not match the products")
+    void createOrder_TotalPriceMismatch_ReturnsBadRequest() throws Exception {
+        when(orderService.createOrder(any())).thenThrow(new InvalidOrderException(
+                Map.of("totalPrice", "Total price must equal the sum of product prices times quantities")));
+
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST.replace("\"totalPrice\": 10", "\"totalPrice\": 11"))
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.totalPrice")
+                        .value("Total price must equal the sum of product prices times quantities"));
+    }
+
+    @Test
+    @DisplayName("Should list orders with their item totals but without products when asked to")
+    void getOrders_WithoutProducts_OmitsProducts() throws Exception {
+        OrderResponseDto order = order(1L);
+        order.setItemCount(2);
+        order.setTotalQuantity(5L);
+        order.setProducts(null);
+        when(orderService.getOrders(isNull(), isNull(), isNull(), isNull(), isNull(), eq(false)))
+                .thenReturn(new OrderPageResponseDto(List.of(order), null));
+
+        mockMvc.perform(get("/orders")
+                        .param("includeProducts", "false")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].itemCount").value(2))
+                .andExpect(jsonPath("$.orders[0].totalQuantity").value(5))
+                .andExpect(jsonPath("$.orders[0].products").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should convert price filters to minor units without widening the range")
+    void getOrders_FractionalPriceRange_RoundsBoundsInward() throws Exception {
+        when(orderService.getOrders(isNull(), eq(1001L), eq(2099L), isNull(), isNull(), eq(true)))
+                .thenReturn(new OrderPageResponseDto(List.of(order(1L)), null));
+
+        mockMvc.perform(get("/orders")
+                        .param("minPrice", "10.005")
+                        .param("maxPrice", "20.999")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the cursor is malformed")
+    void getOrders_MalformedCursor_ReturnsBadRequest() throws Exception {
+        when(orderService.getOrders(any(), any(), any(), eq("bad"), any(), anyBoolean()))
+                .thenThrow(new InvalidRequestException("Invalid cursor"));
+
+        mockMvc.perform(get("/orders")
+                        .param("cursor", "bad")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid parameter"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a price filter does not fit into minor units")
+    void getOrders_PriceOutOfRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/orders")
+                        .param("minPrice", "1e30")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid parameter"));
+    }
+
+    @Test
+    @DisplayName("Should return 500 rather than 400 when an internal IllegalArgumentException escapes")
+    void getOrders_InternalIllegalArgument_ReturnsInternalServerError() throws Exception {
+        when(orderService.getOrders(any(), any(), any(), any(), any(), anyBoolean()))
+                .thenThrow(new IllegalArgumentException("internal"));
+
+        mockMvc.perform(get("/orders")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("Should stream orders as newline-delimited JSON")
+    void streamOrders_NdjsonRequested_WritesOneLinePerOrder() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderResponseDto> consumer = invocation.getArgument(4);
+            consumer.accept(order(1L));
+            consumer.accept(order(2L));
+            return null;
+        }).when(orderService).streamOrders(any(), any(), any(), anyBoolean(), any());
+
+        MvcResult result = mockMvc.perform(get("/orders")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":1"));
+        assertTrue(lines[1].contains("\"id\":2"));
+    }
+
+    @Test
+    @DisplayName("Should stream orders as a CBOR sequence")
+    void streamOrders_CborSeqRequested_WritesOneItemPerOrder() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderResponseDto> consumer = invocation.getArgument(4);
+            consumer.accept(order(1L));
+            consumer.accept(order(2L));
+            return null;
+        }).when(orderService).streamOrders(any(), any(), any(), anyBoolean(), any());
+
+        MvcResult result = mockMvc.perform(get("/orders")
+                        .accept(OrderController.APPLICATION_CBOR_SEQ_VALUE)
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", OrderController.APPLICATION_CBOR_SEQ_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (MappingIterator<OrderResponseDto> orders = new CBORMapper()
+                .readerFor(OrderResponseDto.class).readValues(body)) {
+            List<OrderResponseDto> streamed = orders.readAll();
+            assertEquals(2, streamed.size());
+            assertEquals(2L, streamed.get(1).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should gzip a streamed order listing when the client accepts it")
+    void streamOrders_AcceptsGzip_WritesCompressedLines() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderResponseDto> consumer = invocation.getArgument(4);
+            LongStream.rangeClosed(1, 100).forEach(id -> consumer.accept(order(id)));
+            return null;
+        }).when(orderService).streamOrders(any(), any(), any(), anyBoolean(), any());
+
+        MvcResult result = mockMvc.perform(get("/orders")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header("Accept-Encoding", "gzip")
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult dispatched = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        try (GZIPInputStream body = new GZIPInputStream(
+                new ByteArrayInputStream(dispatched.getResponse().getContentAsByteArray()))) {
+            String[] lines = new String(body.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            assertEquals(100, lines.length);
+            assertTrue(lines[99].contains("\"id\":100"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the outcome of a bulk ingestion")
+    void createOrders_ValidBatch_ReturnsResult() throws Exception {
+        OrderBatchResponseDto result = new OrderBatchResponseDto(1, 1, List.of(10L),
+                List.of(new OrderBatchErrorDto(1, Map.of("status", "Status must not be blank"))));
+        when(orderService.createOrders(any())).thenReturn(result);
+
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{}, {}]")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdIds[0]").value(10))
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].errors.status").value("Status must not be blank"));
+    }
+
+    @Test
+    @DisplayName("Should return order statistics grouped by customer when requested")
+    void getOrderStats_ByCustomer_ReturnsGroups() throws Exception {
+        OrderStatsDto stats = new OrderStatsDto("PENDING", "user1@example.com", 2, 3000L, 1500L, 1000L, 2000L,
+                3, 7L, 2.5, 1, 4);
+        when(orderService.getOrderStats(true)).thenReturn(List.of(stats));
+
+        mockMvc.perform(get("/orders/stats")
+                        .param("byCustomer", "true")
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$[0].orderCount").value(2))
+                .andExpect(jsonPath("$[0].totalPriceSum").value(30.0))
+                .andExpect(jsonPath("$[0].quantitySum").value(7));
+    }
+
+    @Test
+    @DisplayName("Should return the customer order summary")
+    void getCustomerSummary_ReturnsSummary() throws Exception {
+        CustomerOrderSummaryDto summary = new CustomerOrderSummaryDto("user1@example.com", 3,
+                Map.of("PENDING", 3L), 4500L);
+        when(orderService.getCustomerSummary(isNull())).thenReturn(summary);
+
+        mockMvc.perform(get("/orders/summary")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(3))
+                .andExpect(jsonPath("$.orderCountByStatus.PENDING").value(3))
+                .andExpect(jsonPath("$.totalSpend").value(45.0));
+    }
+
+    @Test
+    @DisplayName("Should return the order changes with the embedded order and the position to continue from")
+    void getChanges_Admin_ReturnsChanges() throws Exception {
+        OrderChangeDto change = new OrderChangeDto(8L, 1L, "CREATED", Instant.parse("2024-01-01T00:00:00Z"),
+                "{\"id\":1,\"status\":\"PENDING\"}");
+        when(orderService.getChanges(7L, null)).thenReturn(new OrderChangeFeedDto(List.of(change), 8L));
+
+        mockMvc.perform(get("/orders/changes")
+                        .param("since", "7")
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(8))
+                .andExpect(jsonPath("$.changes[0].order.status").value("PENDING"))
+                .andExpect(jsonPath("$.nextSince").value(8));
+    }
+
+    @Test
+    @DisplayName("Should return 403 when a user requests the change feed")
+    void getChanges_User_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/orders/changes")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should apply a JSON merge patch to an order")
+    void patchOrder_MergePatch_ReturnsPatchedOrder() throws Exception {
+        OrderResponseDto patched = order(1L);
+        patched.setStatus("CONFIRMED");
+        when(orderService.patchOrder(eq(1L), any(), isNull())).thenReturn(patched);
+
+        mockMvc.perform(patch("/orders/1")
+                        .contentType(OrderController.APPLICATION_MERGE_PATCH_JSON_VALUE)
+                        .content("{\"status\": \"CONFIRMED\"}")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+
+        verify(orderService).patchOrder(eq(1L), argThat(node -> "CONFIRMED".equals(node.path("status").asText())),
+                isNull());
+    }
+
+    @Test
+    @DisplayName("Should return 415 when a patch is not sent as a JSON merge patch")
+    void patchOrder_PlainJson_ReturnsUnsupportedMediaType() throws Exception {
+        mockMvc.perform(patch("/orders/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"CONFIRMED\"}")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isUnsupportedMediaType())
+                .andExpect(header().string("Accept-Patch", OrderController.APPLICATION_MERGE_PATCH_JSON_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should return the validation errors of an invalid patched order")
+    void patchOrder_InvalidResult_ReturnsBadRequest() throws Exception {
+        when(orderService.patchOrder(eq(1L), any(), any()))
+                .thenThrow(new InvalidOrderException(Map.of("status", "Status must not be blank")));
+
+        mockMvc.perform(patch("/orders/1")
+                        .contentType(OrderController.APPLICATION_MERGE_PATCH_JSON_VALUE)
+                        .content("{\"status\": null}")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Status must not be blank"));
+    }
+
+    @Test
+    @DisplayName("Should return an order with its version as the ETag")
+    void getOrderById_ReturnsETag() throws Exception {
+        OrderResponseDto order = order(1L);
+        order.setVersion(3L);
+        when(orderService.getOrderById(1L)).thenReturn(order);
+
+        mockMvc.perform(get("/orders/1")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without a body when the client already has the current version")
+    void getOrderById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        OrderResponseDto order = order(1L);
+        order.setVersion(3L);
+        when(orderService.getOrderById(1L)).thenReturn(order);
+
+        MvcResult result = mockMvc.perform(get("/orders/1")
+                        .header("If-None-Match", "\"3\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andReturn();
+
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Should tag CBOR and JSON representations differently and vary them by Accept")
+    void getOrderById_Cbor_ReturnsRepresentationSpecificETag() throws Exception {
+        OrderResponseDto order = order(1L);
+        order.setVersion(3L);
+        when(orderService.getOrderById(1L)).thenReturn(order);
+
+        mockMvc.perform(get("/orders/1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string("ETag", "\"3-cbor\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        mockMvc.perform(get("/orders/1")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        // A validator of the JSON representation does not match the CBOR one, and the other way round
+        mockMvc.perform(get("/orders/1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", "\"3\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/orders/1")
+                        .header("If-None-Match", "\"3-cbor\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/orders/1")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", "\"3-cbor\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+
+    @Test
+    @DisplayName("Should tag a CBOR page of orders differently from the JSON one")
+    void getOrders_Cbor_ReturnsRepresentationSpecificETag() throws Exception {
+        when(orderService.getOrders(isNull(), isNull(), isNull(), isNull(), isNull(), eq(true)))
+                .thenReturn(new OrderPageResponseDto(List.of(order(1L)), null));
+
+        String jsonETag = mockMvc.perform(get("/orders")
+                        .with(user("user1@example.com").roles("User")))
+                .andReturn().getResponse().getHeader("ETag");
+        String cborETag = mockMvc.perform(get("/orders")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertEquals(jsonETag.substring(0, jsonETag.length() - 1) + "-cbor\"", cborETag);
+        mockMvc.perform(get("/orders")
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header("If-None-Match", jsonETag)
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should accept the ETag of a CBOR representation in If-Match")
+    void deleteOrder_CborIfMatch_PassesExpectedVersion() throws Exception {
+        mockMvc.perform(delete("/orders/1")
+                        .header("If-Match", "\"2-cbor\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isNoContent());
+
+        verify(orderService).deleteOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should update an order only at the version named by If-Match and return the new ETag")
+    void updateOrder_IfMatch_PassesExpectedVersion() throws Exception {
+        OrderResponseDto updated = order(1L);
+        updated.setVersion(3L);
+        when(orderService.updateOrder(eq(1L), any(), eq(2L))).thenReturn(updated);
+
+        mockMvc.perform(put("/orders/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER_REQUEST)
+                        .header("If-Match", "\"2\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    @DisplayName("Should tag updated and patched orders for the representation they are answered in")
+    void updateAndPatchOrder_Cbor_TagsCborRepresentation() throws Exception {
+        OrderResponseDto changed = order(1L);
+        changed.setVersion(3L);
+        when(orderService.updateOrder(eq(1L), any(), eq(2L))).thenReturn(changed);
+        when(orderService.patchOrder(eq(1L), any(), eq(2L))).thenReturn(changed);
+
+        mockMvc.perform(put("/orders/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(ORDER_REQUEST)
+                        .header("If-Match", "\"2-cbor\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string("ETag", "\"3-cbor\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        mockMvc.perform(patch("/orders/1")
+                        .contentType(OrderController.APPLICATION_MERGE_PATCH_JSON_VALUE)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content("{\"status\": \"CONFIRMED\"}")
+                        .header("If-Match", "\"2\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3-cbor\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        mockMvc.perform(patch("/orders/1")
+                        .contentType(OrderController.APPLICATION_MERGE_PATCH_JSON_VALUE)
+                        .content("{\"status\": \"CONFIRMED\"}")
+                        .header("If-Match", "\"2\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+
+    @Test
+    @DisplayName("Should return 412 with the current ETag when If-Match names another version")
+    void deleteOrder_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        doThrow(new OrderVersionMismatchException(1L, 2L, 3L)).when(orderService).deleteOrder(1L, 2L);
+
+        mockMvc.perform(delete("/orders/1")
+                        .header("If-Match", "\"2\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    @DisplayName("Should treat a weak If-Match tag as matching no version")
+    void deleteOrder_WeakIfMatch_PassesUnmatchableVersion() throws Exception {
+        mockMvc.perform(delete("/orders/1")
+                        .header("If-Match", "W/\"2\"")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isNoContent());
+
+        verify(orderService).deleteOrder(1L, -1L);
+    }
+
+    @Test
+    @DisplayName("Should return 409 when an order was changed concurrently")
+    void deleteOrder_ConcurrentChange_ReturnsConflict() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L)).when(orderService).deleteOrder(1L, null);
+
+        mockMvc.perform(delete("/orders/1")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(status().isConflict());
+    }
+
+    private static OrderResponseDto order(Long id) {
+        return new OrderResponseDto(id, "user1@example.com", "PENDING", 1000L, 0, 0L, List.of(), 0L);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.orderservice.presentation.controller;
+
+import com.example.orderservice.application.service.ReactiveOrderService;
+import com.example.orderservice.presentation.dto.order.OrderPageResponseDto;
+import com.example.orderservice.presentation.dto.order.OrderResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "orders.reactive.enabled=true")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ReactiveOrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveOrderService orderService;
+
+    @Test
+    @DisplayName("Should return a page of orders once the reactive query completes")
+    void getOrders_ReturnsPageWithCursor() throws Exception {
+        OrderPageResponseDto page = new OrderPageResponseDto(List.of(order(1L), order(2L)), "next-token");
+        when(orderService.getOrders(isNull(), isNull(), isNull(), eq("token"), eq(2))).thenReturn(Mono.just(page));
+
+        MvcResult result = mockMvc.perform(get("/reactive/orders")
+                        .param("cursor", "token")
+                        .param("limit", "2")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("Should stream orders as newline-delimited JSON")
+    void streamOrders_Ndjson_WritesOneOrderPerLine() throws Exception {
+        when(orderService.streamOrders(any(), any(), any())).thenReturn(Flux.just(order(1L), order(2L)));
+
+        MvcResult result = mockMvc.perform(get("/reactive/orders")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .with(user("admin1@example.com").roles("Admin")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":1"));
+        assertTrue(lines[1].contains("\"id\":2"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when the order is not found")
+    void getOrderById_NotFound_ReturnsNotFound() throws Exception {
+        when(orderService.getOrderById(1L))
+                .thenReturn(Mono.error(new EntityNotFoundException("Order with ID 1 not found or access denied")));
+
+        MvcResult result = mockMvc.perform(get("/reactive/orders/1")
+                        .with(user("user1@example.com").roles("User")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Entity not found"));
+    }
+
+    private static OrderResponseDto order(Long id) {
+        return new OrderResponseDto(id, "user1@example.com", "PENDING", 1000L, 0, 0L, List.of(), 0L);
+    }
+}